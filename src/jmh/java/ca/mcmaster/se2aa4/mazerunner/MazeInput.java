@@ -0,0 +1,63 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A maze shared by the benchmarks: either a file from examples/ or a synthetic "synthetic:WIDTHxHEIGHT" maze
+ * generated into a temporary file, together with a binary copy of it and a canonical and a factorized path through it.
+ */
+@State(Scope.Benchmark)
+public class MazeInput {
+
+    @Param({
+        "examples/tiny.maz.txt", "examples/straight.maz.txt", "examples/direct.maz.txt", "examples/small.maz.txt",
+        "examples/medium.maz.txt", "examples/rectangle.maz.txt", "examples/regular.maz.txt", "examples/large.maz.txt",
+        "examples/huge.maz.txt", "examples/giant.maz.txt",
+        "synthetic:1001x1001", "synthetic:5001x5001"
+    })
+    public String maze;
+
+    Path file;
+    Path binaryFile;
+    Maze loaded;
+    String canonicalPath;
+    String factorizedPath;
+    private boolean temporary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (maze.startsWith("synthetic:")) {
+            String[] size = maze.substring("synthetic:".length()).split("x");
+            file = Files.createTempFile("maze-benchmark-", ".maz.txt");
+            temporary = true;
+            new MazeGenerator(Integer.parseInt(size[0]), Integer.parseInt(size[1]), 42, 0).write(file);
+        } else {
+            file = Path.of(maze);
+        }
+        loaded = MazeFileReader.readMaze(file.toString());
+        binaryFile = Files.createTempFile("maze-benchmark-", ".mzb");
+        BinaryMazeFormat.write(loaded, binaryFile);
+
+        StringBuilder moves = new StringBuilder();
+        MazeNavigationFactory.createSolver(loaded, "bfs").solve(moves::append);
+        canonicalPath = moves.toString();
+        factorizedPath = Encoder.encode(canonicalPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryFile);
+        if (temporary) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
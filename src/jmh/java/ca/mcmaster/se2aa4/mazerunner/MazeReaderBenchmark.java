@@ -0,0 +1,33 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of MazeFileReader.readMaze, from the file on disk to a Maze with its entry and exit found,
+ * for the text file and for its binary copy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeReaderBenchmark {
+
+    @Benchmark
+    public Maze readMaze(MazeInput input) throws Exception {
+        return MazeFileReader.readMaze(input.file.toString());
+    }
+
+    @Benchmark
+    public Maze readBinaryMaze(MazeInput input) throws Exception {
+        return MazeFileReader.readMaze(input.binaryFile.toString());
+    }
+}
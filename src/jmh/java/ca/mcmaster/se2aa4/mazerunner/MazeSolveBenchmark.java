@@ -0,0 +1,76 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a full solve, including solver construction, for every algorithm of MazeNavigationFactory,
+ * with the cells each algorithm expanded and the length of its canonical path, to compare how much work they do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeSolveBenchmark {
+
+    @Param({"righthand", "bfs", "astar", "jps", "bidirectional", "tremaux", "pledge", "parallel-bfs"})
+    public String algorithm;
+
+    /**
+     * Work done by the solves, reported next to the throughput as solve:nodesExpanded, the cells expanded, and
+     * solve:pathMoves, the F, L and R moves emitted. JMH reports these counters as rates in the same unit as the
+     * score, so dividing one by the solve score gives the count per solve. For bidirectional, thread timing picks
+     * among equally short paths, so its pathMoves per solve may vary slightly. A solve that finds no path adds
+     * the cells it expanded but no moves.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SolveCounters implements MoveSink {
+        public long nodesExpanded;
+        public long pathMoves;
+        private long moves;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            nodesExpanded = 0;
+            pathMoves = 0;
+        }
+
+        @Override
+        public void accept(char move) {
+            moves++;
+        }
+    }
+
+    // Streams the moves into the counters, so every solver is measured the same way and no path string is built
+    @Benchmark
+    public Object solve(MazeInput input, SolveCounters counters) {
+        MazeSolver solver = MazeNavigationFactory.createSolver(input.loaded, algorithm);
+        counters.moves = 0;
+        try {
+            solver.solve(counters);
+            counters.pathMoves += counters.moves;
+        } catch (IllegalStateException e) {
+            // The righthand walk gives up on several examples; the walk up to that point is still what we measure
+            return e;
+        } finally {
+            counters.nodesExpanded += solver.getNodesExpanded();
+        }
+        return solver;
+    }
+}
@@ -0,0 +1,82 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Speedup of ParallelBreadthFirstNavigation over the sequential BreadthFirstNavigation as the pool grows.
+ * Loops widen the BFS frontier, which is what gives the parallel levels work to share; a perfect maze is mostly
+ * corridors, whose narrow levels stay on the calling thread. Compare each threads value with sequentialBfs, and
+ * try other chunk sizes with -p chunkSize=64,1024:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ParallelBreadthFirstBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelBreadthFirstBenchmark {
+
+    @Param({"3001x3001", "10001x10001"})
+    public String size;
+
+    @Param({"0", "0.3"})
+    public double loops;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    @Param({"256"})
+    public int chunkSize;
+
+    private Maze maze;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String[] dimensions = size.split("x");
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        new MazeGenerator(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 42, loops)
+                .write(Channels.newChannel(text));
+        maze = new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray())));
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String parallelBfs() {
+        MazeSolver solver = new ParallelBreadthFirstNavigation(maze, pool, chunkSize);
+        solver.solve();
+        return solver.getFinalOutput();
+    }
+
+    // Does not depend on threads or chunkSize; every value measures the same baseline
+    @Benchmark
+    public String sequentialBfs() {
+        MazeSolver solver = new BreadthFirstNavigation(maze);
+        solver.solve();
+        return solver.getFinalOutput();
+    }
+}
@@ -0,0 +1,32 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of PathValidator replaying canonical and factorized paths.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathValidatorBenchmark {
+
+    @Benchmark
+    public boolean validateCanonical(MazeInput input) {
+        return PathValidator.isValidPath(input.loaded, input.canonicalPath);
+    }
+
+    @Benchmark
+    public boolean validateFactorized(MazeInput input) {
+        return PathValidator.isValidPath(input.loaded, input.factorizedPath);
+    }
+}
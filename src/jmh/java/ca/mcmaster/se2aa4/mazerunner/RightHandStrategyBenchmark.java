@@ -0,0 +1,40 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Righthand walk with each MazeNavigation strategy, to compare the table-driven kernel with the default rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RightHandStrategyBenchmark {
+
+    @Param({"default", "table"})
+    public String strategy;
+
+    @Benchmark
+    public Object walk(MazeInput input) {
+        RightHandNavigation solver = RightHandNavigation.create(input.loaded, strategy);
+        try {
+            solver.solve();
+        } catch (IllegalStateException e) {
+            return e;
+        }
+        return solver.getFinalOutput();
+    }
+}
@@ -0,0 +1,108 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Arrays;
+
+/**
+ * Finds a shortest path with A*, guided by the Manhattan distance to the exit.
+ * Open cells live in a primitive IntMinHeap and costs in int arrays, so expanding a cell allocates nothing.
+ */
+public class AStarNavigation implements MazeSolver {
+    private final Maze maze;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+
+    public AStarNavigation(Maze maze) {
+        this.maze = maze;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        WallGrid grid = maze.getWallGrid();
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int entry = maze.getEntryRow() * width + maze.getEntryCol();
+        int exit = maze.getExitRow() * width + maze.getExitCol();
+        int cells = Math.multiplyExact(width, height);
+
+        int[] cost = new int[cells];
+        int[] parent = new int[cells];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        IntMinHeap open = new IntMinHeap(cells);
+        cost[entry] = 0;
+        open.push(entry, priority(0, heuristic(entry, width)));
+        nodesExpanded = 0;
+
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            nodesExpanded++;
+            if (cell == exit) {
+                break;
+            }
+            int row = cell / width;
+            int col = cell - row * width;
+            int nextCost = cost[cell] + 1;
+            if (row > 0 && grid.isOpen(row - 1, col)) relax(open, cost, parent, cell - width, cell, nextCost, width);
+            if (col < width - 1 && grid.isOpen(row, col + 1)) relax(open, cost, parent, cell + 1, cell, nextCost, width);
+            if (row < height - 1 && grid.isOpen(row + 1, col)) relax(open, cost, parent, cell + width, cell, nextCost, width);
+            if (col > 0 && grid.isOpen(row, col - 1)) relax(open, cost, parent, cell - 1, cell, nextCost, width);
+        }
+
+        if (cost[exit] == Integer.MAX_VALUE) {
+            throw new IllegalStateException("No path found.");
+        }
+        reverseChain(parent, exit);
+        CellPaths.emitMoves(width, parent, entry, sink);
+    }
+
+    private void relax(IntMinHeap open, int[] cost, int[] parent, int neighbour, int from, int newCost, int width) {
+        if (newCost < cost[neighbour]) {
+            cost[neighbour] = newCost;
+            parent[neighbour] = from;
+            open.push(neighbour, priority(newCost, heuristic(neighbour, width)));
+        }
+    }
+
+    private int heuristic(int cell, int width) {
+        int row = cell / width;
+        int col = cell - row * width;
+        return Math.abs(row - maze.getExitRow()) + Math.abs(col - maze.getExitCol());
+    }
+
+    // Orders by f = g + h, breaking ties towards the cell closer to the exit
+    static long priority(int cost, int heuristic) {
+        return ((long) (cost + heuristic) << 32) | heuristic;
+    }
+
+    // Turns the parent chain ending at last into a successor chain starting at its root, in place
+    static void reverseChain(int[] parent, int last) {
+        int previous = -1;
+        int cell = last;
+        while (cell != -1) {
+            int next = parent[cell];
+            parent[cell] = previous;
+            previous = cell;
+            cell = next;
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Solves many mazes in one JVM. Every file is read and solved by its own MazeRunner on a virtual thread, with
+ * at most parallelism solves in flight. Each result is printed as soon as it is ready, so lines come out in
+ * completion order, followed by a throughput summary. While a batch runs, its metrics are published as the
+ * SolveStats MBean named batch.
+ */
+public class BatchRunner {
+    private static final Logger logger = LogManager.getLogger();
+
+    private final String algorithmType;
+    private final boolean fillDeadEnds;
+    private final int parallelism;
+    private final SolutionCache cache;
+    private SolveStats stats;
+
+    public BatchRunner(String algorithmType, boolean fillDeadEnds, int parallelism) {
+        this(algorithmType, fillDeadEnds, parallelism, null);
+    }
+
+    // With a cache, mazes already solved with the same method are answered without solving
+    public BatchRunner(String algorithmType, boolean fillDeadEnds, int parallelism, SolutionCache cache) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        this.algorithmType = algorithmType;
+        this.fillDeadEnds = fillDeadEnds;
+        this.parallelism = parallelism;
+        this.cache = cache;
+    }
+
+    /**
+     * Lists the mazes named by spec: every regular file of a directory, or the files matching a glob
+     * such as examples/*.maz.txt. Results are sorted by path.
+     */
+    public static List<Path> findMazes(String spec) throws IOException {
+        Path directory = Path.of(spec);
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(Files::isRegularFile).sorted().toList();
+            }
+        }
+        // Walk from the deepest directory before the first wildcard
+        int wildcard = firstWildcard(spec);
+        int separator = Math.max(spec.lastIndexOf('/', wildcard), spec.lastIndexOf('\\', wildcard));
+        Path base = separator < 0 ? Path.of(".") : Path.of(spec.substring(0, separator + 1));
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + spec.substring(separator + 1));
+        if (!Files.isDirectory(base)) {
+            throw new IOException("No such directory: " + base);
+        }
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(base.relativize(file)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static int firstWildcard(String spec) {
+        for (int i = 0; i < spec.length(); i++) {
+            if ("*?[{".indexOf(spec.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return spec.length();
+    }
+
+    // Totals of the last run, which stay readable after its MBean is unregistered
+    public SolveStats getStats() {
+        return stats;
+    }
+
+    public void run(List<Path> files, PrintStream out) throws InterruptedException {
+        SolveStats stats = SolveStats.register("batch");
+        this.stats = stats;
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger solved = new AtomicInteger();
+        AtomicLong cells = new AtomicLong();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path file : files) {
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        if (solve(file, out, cells, stats)) {
+                            solved.incrementAndGet();
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } // Closing the executor waits for every solve
+        stats.close();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        out.printf("Solved %d of %d mazes in %.1f ms: %.1f mazes/s, %.0f cells/s%n", solved.get(), files.size(),
+                seconds * 1000, files.size() / seconds, cells.get() / seconds);
+    }
+
+    // Prints one tab-separated line: file name, factorized path or error, and wall time
+    private boolean solve(Path file, PrintStream out, AtomicLong cells, SolveStats stats) {
+        long start = System.nanoTime();
+        SolveMetrics metrics = new SolveMetrics();
+        String result;
+        boolean success = false;
+        try {
+            Maze maze = metrics.timeParse(() -> MazeFileReader.readMaze(file.toString()));
+            cells.addAndGet((long) maze.getHeight() * maze.getWidth());
+            if (cache != null) {
+                result = cache.solve(maze, algorithmType, fillDeadEnds);
+            } else {
+                MazeRunner runner = new MazeRunner(fillDeadEnds ? DeadEndFiller.prune(maze) : maze, algorithmType);
+                runner.recordMetrics(metrics);
+                result = runner.solveMaze();
+            }
+            success = true;
+        } catch (Exception e) {
+            logger.warn("Could not solve {}: {}", file, e.getMessage());
+            result = "ERROR " + e.getMessage();
+        }
+        if (success) {
+            stats.record(metrics);
+        } else {
+            stats.recordFailure(metrics);
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        out.printf("%s\t%s\t%.2f ms%n", file.getFileName(), result, millis);
+        return success;
+    }
+}
@@ -0,0 +1,198 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Breadth-first search run from the entry and from the exit at the same time, each frontier on its own thread.
+ * The two searches advance in lockstep: each expands one whole level, then waits on a Phaser for the other.
+ * Cells are claimed with a compare-and-set on a shared owner array that also records the claiming side and depth,
+ * so a frontier touching the other side knows the length of the path through that edge straight away.
+ * The round in which the frontiers first touch is finished on both sides and the shortest meeting is kept, which
+ * makes the path as short as a plain BFS one whatever the thread timing. The two half-paths are then stitched
+ * into one chain from the entry to the exit.
+ */
+public class BidirectionalNavigation implements MazeSolver {
+    private static final int UNCLAIMED = 0;
+
+    private final Maze maze;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+
+    public BidirectionalNavigation(Maze maze) {
+        this.maze = maze;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        WallGrid grid = maze.getWallGrid();
+        int width = grid.getWidth();
+        int cells = Math.multiplyExact(width, grid.getHeight());
+        int entry = maze.getEntryRow() * width + maze.getEntryCol();
+        int exit = maze.getExitRow() * width + maze.getExitCol();
+
+        // Entry side cells hold depth + 1, exit side cells -(depth + 1)
+        AtomicIntegerArray owner = new AtomicIntegerArray(cells);
+        Rounds rounds = new Rounds();
+        Frontier fromEntry = new Frontier(grid, owner, rounds, 1, entry, cells);
+        Frontier fromExit = new Frontier(grid, owner, rounds, -1, exit, cells);
+        rounds.fromEntry = fromEntry;
+        rounds.fromExit = fromExit;
+
+        Thread exitThread = Thread.ofPlatform().name("maze-bidirectional-exit").start(fromExit);
+        fromEntry.run();
+        try {
+            exitThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the exit-side search.", e);
+        }
+        for (Frontier frontier : new Frontier[]{fromEntry, fromExit}) {
+            if (frontier.failure != null) {
+                throw frontier.failure;
+            }
+        }
+        nodesExpanded = fromEntry.expanded + fromExit.expanded;
+
+        Frontier best = fromEntry.bestLength <= fromExit.bestLength ? fromEntry : fromExit;
+        if (best.bestLength == Integer.MAX_VALUE) {
+            throw new IllegalStateException("No path found.");
+        }
+        // Entry half: reverse it so it runs entry -> meeting cell, then hop across to the exit half
+        int entrySideCell = best == fromEntry ? best.bestFrom : best.bestTo;
+        int exitSideCell = best == fromEntry ? best.bestTo : best.bestFrom;
+        int[] next = fromEntry.parent;
+        AStarNavigation.reverseChain(next, entrySideCell);
+        next[entrySideCell] = exitSideCell;
+        // Exit half already points towards the exit; the two halves own disjoint cells, so copy it across
+        for (int cell = exitSideCell; cell != -1; cell = fromExit.parent[cell]) {
+            next[cell] = fromExit.parent[cell];
+        }
+        CellPaths.emitMoves(width, next, entry, sink);
+    }
+
+    // Ends a round once both sides have arrived; the verdict is written before either side is released
+    private static final class Rounds extends Phaser {
+        private Frontier fromEntry;
+        private Frontier fromExit;
+        private boolean finished;
+
+        Rounds() {
+            super(2);
+        }
+
+        @Override
+        protected boolean onAdvance(int phase, int registeredParties) {
+            boolean met = fromEntry.bestLength != Integer.MAX_VALUE || fromExit.bestLength != Integer.MAX_VALUE;
+            boolean exhausted = fromEntry.level.isEmpty() || fromExit.level.isEmpty();
+            // A side that failed has deregistered, and the other one must not wait for it again
+            finished = met || exhausted || registeredParties < 2;
+            return registeredParties == 0;
+        }
+    }
+
+    private static final class Frontier implements Runnable {
+        private final WallGrid grid;
+        private final AtomicIntegerArray owner;
+        private final Rounds rounds;
+        private final int sign;
+        private final int root;
+        private final int[] parent;
+        private IntList level = new IntList();
+        private IntList nextLevel = new IntList();
+        private long expanded;
+        // Shortest path through an edge from this side into the other one found so far
+        private int bestLength = Integer.MAX_VALUE;
+        private int bestFrom;
+        private int bestTo;
+        private RuntimeException failure;
+
+        Frontier(WallGrid grid, AtomicIntegerArray owner, Rounds rounds, int sign, int root, int cells) {
+            this.grid = grid;
+            this.owner = owner;
+            this.rounds = rounds;
+            this.sign = sign;
+            this.root = root;
+            this.parent = new int[cells];
+        }
+
+        @Override
+        public void run() {
+            try {
+                search();
+            } catch (RuntimeException e) {
+                failure = e;
+                rounds.arriveAndDeregister(); // Releases the other side, which then finds the search finished
+            }
+        }
+
+        private void search() {
+            int width = grid.getWidth();
+            int height = grid.getHeight();
+            parent[root] = -1;
+            owner.set(root, sign);
+            level.add(root);
+
+            for (int depth = 0; ; depth++) {
+                int claimed = sign * (depth + 2);
+                for (int i = 0; i < level.size(); i++) {
+                    int cell = level.get(i);
+                    expanded++;
+                    int row = cell / width;
+                    int col = cell - row * width;
+                    if (row > 0 && grid.isOpen(row - 1, col)) claim(cell - width, cell, depth, claimed);
+                    if (col < width - 1 && grid.isOpen(row, col + 1)) claim(cell + 1, cell, depth, claimed);
+                    if (row < height - 1 && grid.isOpen(row + 1, col)) claim(cell + width, cell, depth, claimed);
+                    if (col > 0 && grid.isOpen(row, col - 1)) claim(cell - 1, cell, depth, claimed);
+                }
+                IntList expandedLevel = level;
+                level = nextLevel;
+                nextLevel = expandedLevel;
+                nextLevel.clear();
+
+                rounds.arriveAndAwaitAdvance();
+                if (rounds.finished) {
+                    return;
+                }
+            }
+        }
+
+        // Claims neighbour for this side, or records the path through it when the other side owns it
+        private void claim(int neighbour, int from, int depth, int claimed) {
+            if (owner.compareAndSet(neighbour, UNCLAIMED, claimed)) {
+                parent[neighbour] = from;
+                nextLevel.add(neighbour);
+                return;
+            }
+            int tag = owner.get(neighbour);
+            if ((tag ^ sign) < 0) {
+                int length = depth + Math.abs(tag); // depth + 1 + the other side's depth
+                if (length < bestLength) {
+                    bestLength = length;
+                    bestFrom = from;
+                    bestTo = neighbour;
+                }
+            }
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
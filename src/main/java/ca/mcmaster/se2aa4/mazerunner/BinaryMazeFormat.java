@@ -0,0 +1,164 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary maze file, little-endian:
+ * a 32-byte header (magic "MZB1", height, width, entry row, entry column, exit row, exit column, reserved 0),
+ * then the WallGrid words row by row, each row padded to whole 64-bit words, then a CRC32C of everything before it.
+ * The rows have the same layout as WallGrid, so loading is a bulk copy of mapped memory with no parsing.
+ */
+public class BinaryMazeFormat {
+    public static final int MAGIC = 0x31425A4D; // "MZB1" read as a little-endian int
+    private static final int HEADER_SIZE = 32;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final long WINDOW_SIZE = 1L << 30; // Multiple of 8, so no word straddles two windows
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private BinaryMazeFormat() {}
+
+    // True when the buffer's first bytes are the binary magic; does not move the buffer's position
+    public static boolean isBinary(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES
+                && buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt() == MAGIC;
+    }
+
+    public static Maze read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] windows = new ByteBuffer[(int) ((size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+            for (int i = 0; i < windows.length; i++) {
+                long offset = i * WINDOW_SIZE;
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            }
+            return read(windows, size);
+        }
+    }
+
+    // Reads a binary maze already held in memory, e.g. a request body
+    public static Maze read(ByteBuffer buffer) throws IOException {
+        ByteBuffer window = buffer.slice();
+        return read(new ByteBuffer[]{window}, window.remaining());
+    }
+
+    private static Maze read(ByteBuffer[] windows, long size) throws IOException {
+        if (size < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("Binary maze file is truncated.");
+        }
+        ByteBuffer header = windows[0].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a binary maze file.");
+        }
+        int height = header.getInt();
+        int width = header.getInt();
+        int entryRow = header.getInt();
+        int entryCol = header.getInt();
+        int exitRow = header.getInt();
+        int exitCol = header.getInt();
+        if (height <= 0 || width <= 0) {
+            throw new IOException("Binary maze has invalid dimensions " + width + "x" + height + ".");
+        }
+        // Check the size before allocating, so a damaged header cannot ask for a huge grid
+        long wordCount = (long) height * ((width + 63) >>> 6);
+        if (size != HEADER_SIZE + wordCount * Long.BYTES + CHECKSUM_SIZE) {
+            throw new IOException("Binary maze file size does not match its " + width + "x" + height + " header.");
+        }
+        WallGrid grid = new WallGrid(height, width);
+        long[] words = grid.getWords();
+
+        // One pass over the mapped bytes: checksum each window, and bulk-copy the words it holds
+        CRC32C checksum = new CRC32C();
+        long body = size - CHECKSUM_SIZE;
+        int copied = 0;
+        for (int w = 0; w < windows.length; w++) {
+            long base = w * WINDOW_SIZE;
+            int start = w == 0 ? HEADER_SIZE : 0;
+            int end = (int) Math.min(windows[w].limit(), body - base);
+            if (end <= 0) {
+                break;
+            }
+            checksum.update(windows[w].duplicate().limit(end));
+            LongBuffer longs = windows[w].duplicate().position(start).limit(end).slice()
+                    .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            int count = longs.remaining();
+            longs.get(words, copied, count);
+            copied += count;
+        }
+        int stored = readChecksum(windows, body);
+        if (stored != (int) checksum.getValue()) {
+            throw new IOException("Binary maze checksum mismatch, the file is corrupted.");
+        }
+        clearPadding(grid);
+
+        try {
+            return new Maze(grid, entryRow, entryCol, exitRow, exitCol);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Binary maze header is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    // WallGrid relies on the bits past the last column being zero, whatever a hand-made file holds
+    private static void clearPadding(WallGrid grid) {
+        int used = grid.getWidth() & 63;
+        if (used == 0) {
+            return;
+        }
+        long mask = (1L << used) - 1;
+        long[] words = grid.getWords();
+        int wordsPerRow = grid.getWordsPerRow();
+        for (int last = wordsPerRow - 1; last < words.length; last += wordsPerRow) {
+            words[last] &= mask;
+        }
+    }
+
+    // The trailing checksum may straddle two windows, so read it byte by byte
+    private static int readChecksum(ByteBuffer[] windows, long position) {
+        int value = 0;
+        for (int i = 0; i < CHECKSUM_SIZE; i++) {
+            long at = position + i;
+            int w = (int) (at / WINDOW_SIZE);
+            value |= (windows[w].get((int) (at - w * WINDOW_SIZE)) & 0xFF) << (8 * i);
+        }
+        return value;
+    }
+
+    public static void write(Maze maze, Path path) throws IOException {
+        WallGrid grid = maze.getWallGrid();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C checksum = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(grid.getHeight()).putInt(grid.getWidth())
+                    .putInt(maze.getEntryRow()).putInt(maze.getEntryCol())
+                    .putInt(maze.getExitRow()).putInt(maze.getExitCol()).putInt(0);
+            for (long word : grid.getWords()) {
+                if (buffer.remaining() < Long.BYTES) {
+                    flush(channel, buffer, checksum);
+                }
+                buffer.putLong(word);
+            }
+            flush(channel, buffer, checksum);
+            buffer.putInt((int) checksum.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
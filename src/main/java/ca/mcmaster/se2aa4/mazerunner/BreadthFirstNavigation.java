@@ -0,0 +1,79 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Arrays;
+
+/**
+ * Finds a shortest path with a breadth-first search over cell indices.
+ * The search runs from the exit back to the entry, so each cell's parent is the next cell on the way out
+ * and the path can be replayed from the entry without reversing it.
+ */
+public class BreadthFirstNavigation implements MazeSolver {
+    private static final int UNVISITED = -2;
+
+    private final Maze maze;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+
+    public BreadthFirstNavigation(Maze maze) {
+        this.maze = maze;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        WallGrid grid = maze.getWallGrid();
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int entry = maze.getEntryRow() * width + maze.getEntryCol();
+        int exit = maze.getExitRow() * width + maze.getExitCol();
+
+        int[] parent = new int[Math.multiplyExact(width, height)];
+        Arrays.fill(parent, UNVISITED);
+        IntRingQueue queue = new IntRingQueue(width + height);
+        parent[exit] = -1;
+        queue.offer(exit);
+        nodesExpanded = 0;
+
+        while (!queue.isEmpty() && parent[entry] == UNVISITED) {
+            int cell = queue.poll();
+            nodesExpanded++;
+            int row = cell / width;
+            int col = cell - row * width;
+            if (row > 0 && grid.isOpen(row - 1, col)) visit(parent, queue, cell - width, cell);
+            if (col < width - 1 && grid.isOpen(row, col + 1)) visit(parent, queue, cell + 1, cell);
+            if (row < height - 1 && grid.isOpen(row + 1, col)) visit(parent, queue, cell + width, cell);
+            if (col > 0 && grid.isOpen(row, col - 1)) visit(parent, queue, cell - 1, cell);
+        }
+
+        if (parent[entry] == UNVISITED) {
+            throw new IllegalStateException("No path found.");
+        }
+        CellPaths.emitMoves(width, parent, entry, sink);
+    }
+
+    private static void visit(int[] parent, IntRingQueue queue, int neighbour, int from) {
+        if (parent[neighbour] == UNVISITED) {
+            parent[neighbour] = from;
+            queue.offer(neighbour);
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
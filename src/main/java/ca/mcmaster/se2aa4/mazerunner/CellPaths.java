@@ -0,0 +1,51 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * Helpers for solvers that work on cell indices (row * width + col) rather than Positions.
+ */
+public class CellPaths {
+
+    private CellPaths() {}
+
+    /**
+     * Walks the chain next[start], next[next[start]], ... until a cell whose successor is -1, and feeds the
+     * canonical F/L/R moves for it to sink. The walker starts on start facing EAST, as a solver does at the entry.
+     */
+    public static void emitMoves(int width, int[] next, int start, MoveSink sink) {
+        Direction heading = Direction.EAST;
+        int cell = start;
+        while (next[cell] != -1) {
+            int following = next[cell];
+            Direction step = stepDirection(width, cell, following);
+            emitTurn(heading, step, sink);
+            sink.accept('F');
+            heading = step;
+            cell = following;
+        }
+    }
+
+    // Direction of a single step between two neighbouring cells
+    public static Direction stepDirection(int width, int from, int to) {
+        int delta = to - from;
+        if (delta == 1) return Direction.EAST;
+        if (delta == -1) return Direction.WEST;
+        if (delta == width) return Direction.SOUTH;
+        if (delta == -width) return Direction.NORTH;
+        throw new IllegalArgumentException("Cells " + from + " and " + to + " are not neighbours.");
+    }
+
+    // Turns needed to face target from heading, using RR for a U-turn like RightHandNavigation does
+    public static void emitTurn(Direction heading, Direction target, MoveSink sink) {
+        if (target == heading) {
+            return;
+        }
+        if (target == heading.turnRight()) {
+            sink.accept('R');
+        } else if (target == heading.turnLeft()) {
+            sink.accept('L');
+        } else {
+            sink.accept('R');
+            sink.accept('R');
+        }
+    }
+}
@@ -6,7 +6,7 @@ public class ConsoleObserver implements MazeSolverObserver {
     private static final Logger logger = Logger.getLogger(ConsoleObserver.class.getName());
 
     @Override
-    public void update(String message) {
-        logger.info(message);
+    public void update(SolverEvent event) {
+        logger.info(event.describe());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Preprocessing pass that walls up dead ends (open cells with at most one open neighbour) until none are left.
+ * The entry and exit are never filled, so every path between them survives while the branches leading
+ * nowhere disappear. Row bands are filled in parallel first; the chains that cross a band edge are then
+ * finished sequentially.
+ */
+public class DeadEndFiller {
+    private static final Logger logger = LogManager.getLogger();
+    private static final int ROWS_PER_BAND = 64;
+
+    private final WallGrid grid;
+    private final int width;
+    private final int height;
+    private final int entry;
+    private final int exit;
+
+    private DeadEndFiller(WallGrid grid, int entry, int exit) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.entry = entry;
+        this.exit = exit;
+    }
+
+    // Returns a pruned copy of the maze; the original is left untouched
+    public static Maze prune(Maze maze) {
+        WallGrid pruned = maze.getWallGrid().copy();
+        int width = pruned.getWidth();
+        long openCells = countOpenCells(pruned);
+        long filled = new DeadEndFiller(pruned,
+                maze.getEntryRow() * width + maze.getEntryCol(),
+                maze.getExitRow() * width + maze.getExitCol()).fill();
+        logger.info("Dead-end filling pruned {} of {} open cells ({}%).", filled, openCells,
+                openCells == 0 ? 0 : Math.round(filled * 1000.0 / openCells) / 10.0);
+        return new Maze(pruned, maze.getEntryRow(), maze.getEntryCol(), maze.getExitRow(), maze.getExitCol());
+    }
+
+    // Fills every dead end in place and returns how many cells were filled
+    private long fill() {
+        int bandCount = (height + ROWS_PER_BAND - 1) / ROWS_PER_BAND;
+        List<Band> bands = IntStream.range(0, bandCount).parallel()
+                .mapToObj(index -> fillBand(index * ROWS_PER_BAND, Math.min(height, (index + 1) * ROWS_PER_BAND)))
+                .toList();
+
+        // Cells on band edges were only collected; finish them, and whatever they uncover, on this thread
+        long filled = 0;
+        IntList pending = new IntList();
+        for (Band band : bands) {
+            filled += band.filled;
+            for (int i = 0; i < band.deferred.size(); i++) {
+                pending.add(band.deferred.get(i));
+            }
+        }
+        while (!pending.isEmpty()) {
+            filled += tryFill(pending.removeLast(), 0, height, pending, pending);
+        }
+        return filled;
+    }
+
+    private Band fillBand(int firstRow, int endRow) {
+        Band band = new Band();
+        IntList work = new IntList();
+        for (int row = firstRow; row < endRow; row++) {
+            for (int col = 0; col < width; col++) {
+                work.add(row * width + col);
+                while (!work.isEmpty()) {
+                    band.filled += tryFill(work.removeLast(), firstRow, endRow, work, band.deferred);
+                }
+            }
+        }
+        return band;
+    }
+
+    /**
+     * Fills cell if it is a dead end, queuing the neighbour that may have become one in turn. Only cells whose
+     * rows above and below also lie in [firstRow, endRow) are decided here, so a band never reads a row that
+     * another band writes; the rest go to deferred.
+     */
+    private int tryFill(int cell, int firstRow, int endRow, IntList work, IntList deferred) {
+        int row = cell / width;
+        int col = cell - row * width;
+        if ((row > 0 && row - 1 < firstRow) || (row < height - 1 && row + 1 >= endRow)) {
+            deferred.add(cell);
+            return 0;
+        }
+        if (cell == entry || cell == exit || grid.isWall(row, col)) {
+            return 0;
+        }
+        int openNeighbour = -1;
+        int openCount = 0;
+        if (row > 0 && grid.isOpen(row - 1, col)) { openCount++; openNeighbour = cell - width; }
+        if (col < width - 1 && grid.isOpen(row, col + 1)) { openCount++; openNeighbour = cell + 1; }
+        if (row < height - 1 && grid.isOpen(row + 1, col)) { openCount++; openNeighbour = cell + width; }
+        if (col > 0 && grid.isOpen(row, col - 1)) { openCount++; openNeighbour = cell - 1; }
+        if (openCount > 1) {
+            return 0;
+        }
+        grid.setWall(row, col);
+        if (openNeighbour != -1) {
+            work.add(openNeighbour);
+        }
+        return 1;
+    }
+
+    private static long countOpenCells(WallGrid grid) {
+        long walls = 0;
+        for (long word : grid.getWords()) {
+            walls += Long.bitCount(word);
+        }
+        return (long) grid.getWidth() * grid.getHeight() - walls;
+    }
+
+    private static final class Band {
+        private final IntList deferred = new IntList();
+        private long filled;
+    }
+}
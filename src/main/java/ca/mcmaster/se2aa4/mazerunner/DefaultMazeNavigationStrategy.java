@@ -16,8 +16,8 @@ public class DefaultMazeNavigationStrategy implements MazeNavigation {
         Maze maze = mazeSolver.getMaze();
         int currentRow = mazeSolver.getCurrentPosition().getRow();
         int currentCol = mazeSolver.getCurrentPosition().getCol();
-        int mazeHeight = maze.getGrid().length;
-        int mazeWidth = maze.getGrid()[0].length;
+        int mazeHeight = maze.getHeight();
+        int mazeWidth = maze.getWidth();
 
         if (currentDirection == null) return false;
 
@@ -41,8 +41,8 @@ public class DefaultMazeNavigationStrategy implements MazeNavigation {
         Maze maze = mazeSolver.getMaze();
         int currentRow = mazeSolver.getCurrentPosition().getRow();
         int currentCol = mazeSolver.getCurrentPosition().getCol();
-        int mazeHeight = maze.getGrid().length;
-        int mazeWidth = maze.getGrid()[0].length;
+        int mazeHeight = maze.getHeight();
+        int mazeWidth = maze.getWidth();
 
         if (currentDirection == null) return false;
 
@@ -85,9 +85,9 @@ public class DefaultMazeNavigationStrategy implements MazeNavigation {
 
         if (currentDirection != null) {
             return switch (currentDirection) {
-                case NORTH -> currentCol < maze.getGrid()[0].length - 1 && maze.returnCellValue(currentRow, currentCol + 1) == ' ';
+                case NORTH -> currentCol < maze.getWidth() - 1 && maze.returnCellValue(currentRow, currentCol + 1) == ' ';
                 case SOUTH -> currentCol > 0 && maze.returnCellValue(currentRow, currentCol - 1) == ' ';
-                case EAST -> currentRow < maze.getGrid().length - 1 && maze.returnCellValue(currentRow + 1, currentCol) == ' ';
+                case EAST -> currentRow < maze.getHeight() - 1 && maze.returnCellValue(currentRow + 1, currentCol) == ' ';
                 case WEST -> currentRow > 0 && maze.returnCellValue(currentRow - 1, currentCol) == ' ';
                 default -> false;
             };
@@ -107,9 +107,9 @@ public class DefaultMazeNavigationStrategy implements MazeNavigation {
                 case NORTH -> currentCol > 0 && maze.returnCellValue(currentRow, currentCol - 1) == '#' &&
                     currentRow > 0 && maze.returnCellValue(currentRow - 1, currentCol) == '#';
                 case SOUTH -> currentCol > 0 && maze.returnCellValue(currentRow, currentCol - 1) == '#' &&
-                    currentRow < maze.getGrid().length - 1 && maze.returnCellValue(currentRow + 1, currentCol) == '#';
-                case EAST -> currentRow < maze.getGrid().length - 1 && maze.returnCellValue(currentRow + 1, currentCol) == '#' &&
-                    currentCol < maze.getGrid()[0].length - 1 && maze.returnCellValue(currentRow, currentCol + 1) == '#';
+                    currentRow < maze.getHeight() - 1 && maze.returnCellValue(currentRow + 1, currentCol) == '#';
+                case EAST -> currentRow < maze.getHeight() - 1 && maze.returnCellValue(currentRow + 1, currentCol) == '#' &&
+                    currentCol < maze.getWidth() - 1 && maze.returnCellValue(currentRow, currentCol + 1) == '#';
                 case WEST -> currentRow > 0 && maze.returnCellValue(currentRow - 1, currentCol) == '#' &&
                     currentCol > 0 && maze.returnCellValue(currentRow, currentCol - 1) == '#';
                 default -> false;
@@ -169,8 +169,8 @@ public class DefaultMazeNavigationStrategy implements MazeNavigation {
     private Position getNextPosition(Direction direction) {
         int row = mazeSolver.getCurrentPosition().getRow();
         int col = mazeSolver.getCurrentPosition().getCol();
-        int maxRow = mazeSolver.getMaze().getGrid().length;
-        int maxCol = mazeSolver.getMaze().getGrid()[0].length;
+        int maxRow = mazeSolver.getMaze().getHeight();
+        int maxCol = mazeSolver.getMaze().getWidth();
 
         return switch (direction) {
             case NORTH -> (row > 0) ? new Position(row - 1, col) : null;
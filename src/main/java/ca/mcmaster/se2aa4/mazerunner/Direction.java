@@ -12,9 +12,11 @@ public enum Direction {
 
     // Lookup map for symbol-based direction retrieval.
     private static final Map<String, Direction> SYMBOL_MAP = new HashMap<>();
+    // values() clones the array on every call, so turns index this copy instead
+    private static final Direction[] VALUES = values();
 
     static {
-        for (Direction dir : values()) {
+        for (Direction dir : VALUES) {
             SYMBOL_MAP.put(dir.symbol, dir);
         }
     }
@@ -31,15 +33,15 @@ public enum Direction {
     }
 
     public Direction turnRight() {
-        return values()[(ordinal() + 1) % values().length];
+        return VALUES[(ordinal() + 1) % VALUES.length];
     }
 
     public Direction turnLeft() {
-        return values()[(ordinal() - 1 + values().length) % values().length];
+        return VALUES[(ordinal() - 1 + VALUES.length) % VALUES.length];
     }
 
     public Direction turnAround() {
-        return values()[(ordinal() + 2) % values().length];
+        return VALUES[(ordinal() + 2) % VALUES.length];
     }
 
     // Factory method to retrieve a Direction enum from its symbol.
@@ -11,27 +11,22 @@ public class Encoder {
             throw new IllegalArgumentException("There is no path available.");
         }
 
-        StringBuilder encodedText = new StringBuilder("");
-
-        longText = longText.replaceAll("[\\s]", "");
-
+        MazeEncodeEvent event = new MazeEncodeEvent();
+        event.begin();
+        StringBuilder encodedText = new StringBuilder();
+        StreamingEncoder encoder = new StreamingEncoder(encodedText);
         for (int i = 0; i < longText.length(); i++) {
-            Integer count = 1; 
-
-            while ((i < longText.length() - 1) && (longText.charAt(i) == longText.charAt(i + 1))) {
-                count++;
-                i++;
-            }
-
-            String countStr = count.toString();
-            if (countStr.equals("1")) {
-                countStr = "";
-            }
-
-            encodedText.append(countStr).append(String.valueOf(longText.charAt(i)).toUpperCase()).append(" ");
+            encoder.accept(longText.charAt(i));
+        }
+        encoder.finish();
+        event.end();
+        if (event.shouldCommit()) {
+            event.canonicalLength = longText.length();
+            event.factorizedLength = encodedText.length();
+            event.commit();
         }
 
         // Return the factorized path
-        return encodedText.toString().trim();
+        return encodedText.toString();
     }
-}
\ No newline at end of file
+}
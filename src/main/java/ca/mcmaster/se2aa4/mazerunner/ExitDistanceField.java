@@ -0,0 +1,121 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first distances from the exit to every open cell, in one int per cell. A shortest path from any cell
+ * is then read by descending the gradient: each step goes to a neighbour exactly one step closer to the exit.
+ * One flood fill therefore answers any number of entries, each in time proportional to its path length.
+ * Maze.getExitDistanceField() computes it once and keeps it.
+ */
+public class ExitDistanceField {
+    public static final int UNREACHABLE = -1;
+
+    private final int width;
+    private final int height;
+    private final int exit;
+    private final int[] distance;
+
+    private ExitDistanceField(int width, int height, int exit, int[] distance) {
+        this.width = width;
+        this.height = height;
+        this.exit = exit;
+        this.distance = distance;
+    }
+
+    public static ExitDistanceField compute(Maze maze) {
+        WallGrid grid = maze.getWallGrid();
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int exit = maze.getExitRow() * width + maze.getExitCol();
+
+        int[] distance = new int[Math.multiplyExact(width, height)];
+        Arrays.fill(distance, UNREACHABLE);
+        IntRingQueue queue = new IntRingQueue(width + height);
+        distance[exit] = 0;
+        queue.offer(exit);
+
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int next = distance[cell] + 1;
+            int row = cell / width;
+            int col = cell - row * width;
+            if (row > 0 && grid.isOpen(row - 1, col)) visit(distance, queue, cell - width, next);
+            if (col < width - 1 && grid.isOpen(row, col + 1)) visit(distance, queue, cell + 1, next);
+            if (row < height - 1 && grid.isOpen(row + 1, col)) visit(distance, queue, cell + width, next);
+            if (col > 0 && grid.isOpen(row, col - 1)) visit(distance, queue, cell - 1, next);
+        }
+        return new ExitDistanceField(width, height, exit, distance);
+    }
+
+    private static void visit(int[] distance, IntRingQueue queue, int neighbour, int next) {
+        if (distance[neighbour] == UNREACHABLE) {
+            distance[neighbour] = next;
+            queue.offer(neighbour);
+        }
+    }
+
+    // Steps from (row, col) to the exit, or UNREACHABLE for walls and cells cut off from the exit
+    public int distance(int row, int col) {
+        return distance[row * width + col];
+    }
+
+    /**
+     * Feeds sink the canonical moves of a shortest path from (row, col), facing heading, to the exit.
+     * Among equally short continuations it keeps going straight, so the path has no needless turns.
+     */
+    public void emitPath(int row, int col, Direction heading, MoveSink sink) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + col + ") is outside the maze.");
+        }
+        int cell = row * width + col;
+        if (distance[cell] == UNREACHABLE) {
+            throw new IllegalStateException("No path found.");
+        }
+        while (cell != exit) {
+            Direction step = downhill(cell, heading);
+            CellPaths.emitTurn(heading, step, sink);
+            sink.accept('F');
+            heading = step;
+            cell = neighbour(cell, step);
+        }
+    }
+
+    // A direction whose neighbour is one step closer to the exit, trying the current heading first
+    private Direction downhill(int cell, Direction heading) {
+        int target = distance[cell] - 1;
+        if (distanceTowards(cell, heading) == target) {
+            return heading;
+        }
+        if (distanceTowards(cell, heading.turnRight()) == target) {
+            return heading.turnRight();
+        }
+        if (distanceTowards(cell, heading.turnLeft()) == target) {
+            return heading.turnLeft();
+        }
+        if (distanceTowards(cell, heading.turnAround()) == target) {
+            return heading.turnAround();
+        }
+        throw new IllegalStateException("Distance field is inconsistent at cell " + cell + ".");
+    }
+
+    private int distanceTowards(int cell, Direction direction) {
+        int row = cell / width;
+        int col = cell - row * width;
+        return switch (direction) {
+            case NORTH -> row > 0 ? distance[cell - width] : UNREACHABLE;
+            case EAST -> col < width - 1 ? distance[cell + 1] : UNREACHABLE;
+            case SOUTH -> row < height - 1 ? distance[cell + width] : UNREACHABLE;
+            case WEST -> col > 0 ? distance[cell - 1] : UNREACHABLE;
+        };
+    }
+
+    private int neighbour(int cell, Direction direction) {
+        return switch (direction) {
+            case NORTH -> cell - width;
+            case EAST -> cell + 1;
+            case SOUTH -> cell + width;
+            case WEST -> cell - 1;
+        };
+    }
+}
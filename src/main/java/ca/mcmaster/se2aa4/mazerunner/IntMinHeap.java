@@ -0,0 +1,93 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed binary min-heap of cell indices with long priorities. All storage is allocated up front for a fixed
+ * number of cells, so pushing, decreasing a priority and popping never allocate.
+ */
+public class IntMinHeap {
+    private final int[] heap;
+    private final int[] slot;
+    private final long[] priority;
+    private int size;
+
+    public IntMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.slot = new int[capacity];
+        this.priority = new long[capacity];
+        Arrays.fill(slot, -1);
+    }
+
+    // Inserts cell, or lowers its priority if it is already queued with a higher one
+    public void push(int cell, long newPriority) {
+        int index = slot[cell];
+        if (index == -1) {
+            index = size++;
+            heap[index] = cell;
+            slot[cell] = index;
+        } else if (newPriority >= priority[cell]) {
+            return;
+        }
+        priority[cell] = newPriority;
+        siftUp(index);
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty.");
+        }
+        int top = heap[0];
+        slot[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            slot[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int index) {
+        int cell = heap[index];
+        long key = priority[cell];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap[parentIndex];
+            if (priority[parent] <= key) {
+                break;
+            }
+            heap[index] = parent;
+            slot[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = cell;
+        slot[cell] = index;
+    }
+
+    private void siftDown(int index) {
+        int cell = heap[index];
+        long key = priority[cell];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && priority[heap[right]] < priority[heap[child]]) {
+                child = right;
+            }
+            if (key <= priority[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            slot[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = cell;
+        slot[cell] = index;
+    }
+}
@@ -0,0 +1,58 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.NoSuchElementException;
+
+/**
+ * FIFO queue of primitive ints backed by a power-of-two ring buffer that doubles when full.
+ */
+public class IntRingQueue {
+    private int[] elements;
+    private int head;
+    private int tail;
+
+    public IntRingQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.min(Math.max(initialCapacity, 16), 1 << 30) - 1) << 1;
+        this.elements = new int[capacity];
+    }
+
+    public void offer(int value) {
+        elements[tail & (elements.length - 1)] = value;
+        tail++;
+        if (tail - head == elements.length) {
+            grow();
+        }
+    }
+
+    public int poll() {
+        if (head == tail) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        int value = elements[head & (elements.length - 1)];
+        head++;
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return tail - head;
+    }
+
+    public void clear() {
+        head = 0;
+        tail = 0;
+    }
+
+    private void grow() {
+        int[] larger = new int[elements.length * 2];
+        int start = head & (elements.length - 1);
+        int firstPart = elements.length - start;
+        System.arraycopy(elements, start, larger, 0, firstPart);
+        System.arraycopy(elements, 0, larger, firstPart, start);
+        tail = elements.length;
+        head = 0;
+        elements = larger;
+    }
+}
@@ -0,0 +1,170 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Arrays;
+
+/**
+ * Finds a shortest path with Jump Point Search for four-way movement. Straight runs through open areas are
+ * skipped by jumping to the next cell with a forced neighbour, so A* only expands those jump points.
+ * Like AStarNavigation it keeps all search state in primitive arrays and an IntMinHeap.
+ */
+public class JumpPointNavigation implements MazeSolver {
+    private final Maze maze;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+
+    private WallGrid grid;
+    private int width;
+    private int height;
+    private int exit;
+
+    public JumpPointNavigation(Maze maze) {
+        this.maze = maze;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        grid = maze.getWallGrid();
+        width = grid.getWidth();
+        height = grid.getHeight();
+        int entry = maze.getEntryRow() * width + maze.getEntryCol();
+        exit = maze.getExitRow() * width + maze.getExitCol();
+        int cells = Math.multiplyExact(width, height);
+
+        int[] cost = new int[cells];
+        int[] parent = new int[cells];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        IntMinHeap open = new IntMinHeap(cells);
+        cost[entry] = 0;
+        open.push(entry, AStarNavigation.priority(0, distance(entry, exit)));
+        nodesExpanded = 0;
+
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            nodesExpanded++;
+            if (cell == exit) {
+                break;
+            }
+            int row = cell / width;
+            int col = cell - row * width;
+            int from = parent[cell];
+            if (from == -1) {
+                expand(open, cost, parent, cell, row, col, -1, 0);
+                expand(open, cost, parent, cell, row, col, 1, 0);
+                expand(open, cost, parent, cell, row, col, 0, -1);
+                expand(open, cost, parent, cell, row, col, 0, 1);
+            } else {
+                int fromRow = from / width;
+                int dRow = Integer.signum(row - fromRow);
+                int dCol = Integer.signum(col - (from - fromRow * width));
+                if (dCol != 0) {
+                    expand(open, cost, parent, cell, row, col, -1, 0);
+                    expand(open, cost, parent, cell, row, col, 1, 0);
+                    expand(open, cost, parent, cell, row, col, 0, dCol);
+                } else {
+                    expand(open, cost, parent, cell, row, col, 0, -1);
+                    expand(open, cost, parent, cell, row, col, 0, 1);
+                    expand(open, cost, parent, cell, row, col, dRow, 0);
+                }
+            }
+        }
+
+        if (cost[exit] == Integer.MAX_VALUE) {
+            throw new IllegalStateException("No path found.");
+        }
+        AStarNavigation.reverseChain(parent, exit);
+        fillSegments(parent, entry);
+        CellPaths.emitMoves(width, parent, entry, sink);
+    }
+
+    private void expand(IntMinHeap open, int[] cost, int[] parent, int cell, int row, int col, int dRow, int dCol) {
+        int jumpPoint = jump(row + dRow, col + dCol, dRow, dCol);
+        if (jumpPoint == -1) {
+            return;
+        }
+        int newCost = cost[cell] + distance(cell, jumpPoint);
+        if (newCost < cost[jumpPoint]) {
+            cost[jumpPoint] = newCost;
+            parent[jumpPoint] = cell;
+            open.push(jumpPoint, AStarNavigation.priority(newCost, distance(jumpPoint, exit)));
+        }
+    }
+
+    // Walks from (row, col) in one direction and returns the first jump point, or -1 if a wall comes first
+    private int jump(int row, int col, int dRow, int dCol) {
+        while (true) {
+            if (!isOpen(row, col)) {
+                return -1;
+            }
+            int cell = row * width + col;
+            if (cell == exit) {
+                return cell;
+            }
+            if (dCol != 0) {
+                if ((isOpen(row - 1, col) && !isOpen(row - 1, col - dCol))
+                        || (isOpen(row + 1, col) && !isOpen(row + 1, col - dCol))) {
+                    return cell;
+                }
+            } else {
+                if ((isOpen(row, col - 1) && !isOpen(row - dRow, col - 1))
+                        || (isOpen(row, col + 1) && !isOpen(row - dRow, col + 1))) {
+                    return cell;
+                }
+                // A vertical run stops wherever a horizontal run leaving it would find a jump point
+                if (jump(row, col + 1, 0, 1) != -1 || jump(row, col - 1, 0, -1) != -1) {
+                    return cell;
+                }
+            }
+            row += dRow;
+            col += dCol;
+        }
+    }
+
+    // Expands the successor chain between consecutive jump points into a cell-by-cell chain
+    private void fillSegments(int[] next, int entry) {
+        int cell = entry;
+        while (cell != exit) {
+            int jumpPoint = next[cell];
+            int step = unitStep(cell, jumpPoint);
+            for (int walk = cell; walk != jumpPoint; walk += step) {
+                next[walk] = walk + step;
+            }
+            cell = jumpPoint;
+        }
+    }
+
+    // Jump points on a chain always share a row or a column
+    private int unitStep(int from, int to) {
+        return from / width == to / width ? Integer.signum(to - from) : Integer.signum(to - from) * width;
+    }
+
+    private boolean isOpen(int row, int col) {
+        return row >= 0 && row < height && col >= 0 && col < width && grid.isOpen(row, col);
+    }
+
+    private int distance(int from, int to) {
+        int fromRow = from / width;
+        int toRow = to / width;
+        return Math.abs(fromRow - toRow) + Math.abs((from - fromRow * width) - (to - toRow * width));
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
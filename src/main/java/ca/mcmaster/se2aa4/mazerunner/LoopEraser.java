@@ -0,0 +1,101 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Arrays;
+
+/**
+ * Pipeline stage between a solver and an encoder that removes loops from a move sequence. The moves are
+ * replayed from the entry facing EAST; each cell remembers the index at which it was last added to the path,
+ * so returning to a cell cuts the loop in O(1) and the whole pass stays linear. On finish the loop-free cell
+ * path is turned back into canonical F/L/R moves and handed to the downstream sink.
+ */
+public class LoopEraser implements MoveSink {
+    private final MoveSink downstream;
+    private final int width;
+    private final int height;
+    private final int[] lastIndex;
+    private final IntList path = new IntList();
+    private int peakSize;
+    private Direction heading = Direction.EAST;
+    private int row;
+    private int col;
+
+    public LoopEraser(Maze maze, MoveSink downstream) {
+        this.downstream = downstream;
+        this.width = maze.getWidth();
+        this.height = maze.getHeight();
+        this.lastIndex = new int[Math.multiplyExact(width, height)];
+        Arrays.fill(lastIndex, -1);
+        this.row = maze.getEntryRow();
+        this.col = maze.getEntryCol();
+        visit(row * width + col);
+    }
+
+    // Erases the loops of a canonical path string, spaces allowed, and returns the canonical result
+    public static String erase(Maze maze, CharSequence moves) {
+        StringBuilder result = new StringBuilder();
+        LoopEraser eraser = new LoopEraser(maze, result::append);
+        for (int i = 0; i < moves.length(); i++) {
+            char move = moves.charAt(i);
+            if (move != ' ') {
+                eraser.accept(move);
+            }
+        }
+        eraser.finish();
+        return result.toString();
+    }
+
+    @Override
+    public void accept(char move) {
+        switch (move) {
+            case 'F' -> {
+                switch (heading) {
+                    case NORTH -> row--;
+                    case EAST -> col++;
+                    case SOUTH -> row++;
+                    case WEST -> col--;
+                }
+                if (row < 0 || row >= height || col < 0 || col >= width) {
+                    throw new IllegalArgumentException("Move leaves the maze at (" + row + ", " + col + ").");
+                }
+                visit(row * width + col);
+            }
+            case 'L' -> heading = heading.turnLeft();
+            case 'R' -> heading = heading.turnRight();
+            default -> throw new IllegalArgumentException("Invalid move: " + move);
+        }
+    }
+
+    private void visit(int cell) {
+        int index = lastIndex[cell];
+        // The index may be stale if the cell was cut out by an earlier loop, so check it still holds the cell
+        if (index != -1 && index < path.size() && path.get(index) == cell) {
+            path.truncate(index + 1);
+        } else {
+            lastIndex[cell] = path.size();
+            path.add(cell);
+            peakSize = Math.max(peakSize, path.size());
+        }
+    }
+
+    // Number of cells on the loop-free path so far, the entry included
+    public int getPathLength() {
+        return path.size();
+    }
+
+    // Most steps the loop-free path ever held, i.e. how far from the entry the walk got without a loop
+    public int getPeakPathLength() {
+        return peakSize - 1;
+    }
+
+    @Override
+    public void finish() {
+        Direction facing = Direction.EAST;
+        for (int i = 1; i < path.size(); i++) {
+            Direction step = CellPaths.stepDirection(width, path.get(i - 1), path.get(i));
+            CellPaths.emitTurn(facing, step, downstream);
+            downstream.accept('F');
+            facing = step;
+        }
+        downstream.finish();
+    }
+}
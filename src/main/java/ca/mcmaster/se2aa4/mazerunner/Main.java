@@ -1,5 +1,12 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -9,11 +16,31 @@ import org.apache.logging.log4j.Logger;
 
 public class Main {
     private static final Logger logger = LogManager.getLogger();
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
 
     public static void main(String[] args) {
         Options options = new Options();
         options.addOption("i", "input", true, "Path to the maze input file");
         options.addOption("p", "path", true, "Factorized path");
+        options.addOption("d", "dead-ends", false, "Fill dead ends before solving");
+        options.addOption("a", "all-entries", false, "Print a shortest path from every opening of the West border, one line each");
+        options.addOption("e", "erase-loops", false, "Remove loops from the solver's path before printing it");
+        options.addOption("t", "trace", true, "Write a step-by-step trace of the righthand solver to this file");
+        options.addOption("m", "method", true, "Path computation method: righthand (default), bfs, astar, jps, bidirectional, tremaux, pledge or parallel-bfs");
+        options.addOption(null, "stats", false, "Print parse, solve and encode times and solver counters as JSON on standard error");
+        options.addOption("b", "batch", true, "Solve every maze of a directory or glob, e.g. 'examples/*.maz.txt'");
+        options.addOption("j", "jobs", true, "Number of mazes solved at the same time in batch mode (default: number of cores)");
+        options.addOption(null, "serve", true, "Run a solve server on this local TCP port");
+        options.addOption(null, "load", true, "Send the -i maze to the server at HOST:PORT and report latencies");
+        options.addOption(null, "requests", true, "Number of requests sent by --load (default 1000)");
+        options.addOption(null, "pipeline", true, "Requests kept in flight by --load (default 16)");
+        options.addOption("c", "cache", true, "Reuse solutions stored in this cache file, and store new ones");
+        options.addOption(null, "cache-size", true, "Maximum size of the cache file in megabytes (default 256)");
+        options.addOption(null, "convert", true, "Write the -i maze to this file in the binary maze format");
+        options.addOption("g", "generate", true, "Generate a WIDTHxHEIGHT maze instead of solving one");
+        options.addOption("o", "output", true, "File the generated maze is written to");
+        options.addOption("s", "seed", true, "Seed of the generated maze (default 0)");
+        options.addOption("l", "loops", true, "Probability of knocking down extra walls in a generated maze (default 0)");
 
         CommandLineParser parser = new DefaultParser();
         CommandLine cmd;
@@ -21,6 +48,27 @@ public class Main {
         try {
             cmd = parser.parse(options, args);
 
+            if (cmd.hasOption("g")) {
+                generateMaze(cmd);
+                return;
+            }
+
+            if (cmd.hasOption("serve")) {
+                try (MazeServer server = new MazeServer(Integer.parseInt(cmd.getOptionValue("serve")))) {
+                    server.serve();
+                }
+                return;
+            }
+
+            if (cmd.hasOption("b")) {
+                int jobs = Integer.parseInt(cmd.getOptionValue("j", String.valueOf(Runtime.getRuntime().availableProcessors())));
+                try (SolutionCache cache = openCache(cmd)) {
+                    BatchRunner batch = new BatchRunner(cmd.getOptionValue("m", "righthand"), cmd.hasOption("d"), jobs, cache);
+                    batch.run(BatchRunner.findMazes(cmd.getOptionValue("b")), System.out);
+                }
+                return;
+            }
+
             // Ensure input file is provided
             if (!cmd.hasOption("i")) {
                 logger.error("Missing required -i flag for the input file.");
@@ -29,24 +77,111 @@ public class Main {
 
             // Read the maze from the input file
             String inputFile = cmd.getOptionValue("i");
-            Character[][] mazeArray = MazeFileReader.readMaze(inputFile);
-            // Default to "righthand" algorithm 
-            String algorithmType = "righthand";
-            MazeRunner runner = new MazeRunner(mazeArray, algorithmType);
-
-            // Solve the maze
-            String factorizedPath = runner.solveMaze();
-
-            // Print out the factorized path
-            if (!cmd.hasOption("p")) {
-                System.out.println(factorizedPath);
-            } else { 
+            SolveMetrics metrics = new SolveMetrics();
+            Maze maze = metrics.timeParse(() -> MazeFileReader.readMaze(inputFile));
+            // Default to "righthand" algorithm unless -m picks another one
+            String algorithmType = cmd.getOptionValue("m", "righthand");
+
+            if (cmd.hasOption("a")) {
+                printAllEntries(maze);
+            } else if (cmd.hasOption("convert")) {
+                BinaryMazeFormat.write(maze, Path.of(cmd.getOptionValue("convert")));
+            } else if (cmd.hasOption("load")) {
+                String[] address = cmd.getOptionValue("load").split(":");
+                MazeLoadClient client = new MazeLoadClient(address[0], Integer.parseInt(address[1]));
+                client.run(Files.readAllBytes(Path.of(inputFile)), algorithmType,
+                        Integer.parseInt(cmd.getOptionValue("requests", "1000")),
+                        Integer.parseInt(cmd.getOptionValue("pipeline", "16")), System.out);
+            } else if (!cmd.hasOption("p") && cmd.hasOption("c") && !needsFreshSolve(cmd)) {
+                try (SolutionCache cache = openCache(cmd)) {
+                    System.out.println(cache.solve(maze, algorithmType, cmd.hasOption("d")));
+                }
+            } else if (!cmd.hasOption("p")) {
+                if (cmd.hasOption("c")) {
+                    // Logging is off by default, so say it where the user will see it
+                    System.err.println("Warning: -c is ignored with -t, -e or --stats, which need a fresh solve.");
+                }
+                // Solve the maze and print out the factorized path
+                if (cmd.hasOption("d")) {
+                    maze = DeadEndFiller.prune(maze);
+                }
+                MazeRunner runner = new MazeRunner(maze, algorithmType);
+                if (cmd.hasOption("t")) {
+                    runner.enableTrace();
+                }
+                if (cmd.hasOption("e")) {
+                    runner.enableLoopErasure();
+                }
+                if (cmd.hasOption("stats")) {
+                    runner.recordMetrics(metrics);
+                }
+                // Stream the path to standard output; it is only flushed once the buffer fills or the solve succeeds,
+                // so a failed solve of an ordinary maze prints nothing
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), OUTPUT_BUFFER_SIZE);
+                runner.solveMaze(out);
+                out.write(System.lineSeparator());
+                out.flush();
+                if (cmd.hasOption("stats")) {
+                    System.err.println(metrics.toJson());
+                }
+                if (cmd.hasOption("t")) {
+                    try (Writer traceWriter = Files.newBufferedWriter(Path.of(cmd.getOptionValue("t")))) {
+                        runner.getTrace().writeTo(traceWriter);
+                    }
+                }
+            } else {
                 String providedPath = cmd.getOptionValue("p");
-                PathValidator.validatePath(factorizedPath, providedPath); // Validate the correctness of the path
+                PathValidator.validatePath(maze, providedPath); // Replay the provided path on the maze, no solve needed
             }
 
         } catch (Exception e) {
             logger.error("An error occurred: {}", e.getMessage(), e);
         }
     }
+
+    // One line per West opening: its row, then its factorized path or the error; all rows share one flood fill
+    private static void printAllEntries(Maze maze) throws Exception {
+        ExitDistanceField field = maze.getExitDistanceField();
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), OUTPUT_BUFFER_SIZE);
+        for (int row : maze.getWestOpenings()) {
+            out.write(row + "\t");
+            if (field.distance(row, 0) == ExitDistanceField.UNREACHABLE) {
+                out.write("ERROR No path found.");
+            } else {
+                StreamingEncoder encoder = new StreamingEncoder(out);
+                field.emitPath(row, 0, Direction.EAST, encoder);
+                encoder.finish();
+            }
+            out.write(System.lineSeparator());
+        }
+        out.flush();
+    }
+
+    // A trace, loop erasure or solver counters all come from running the solver, which a cache hit skips
+    private static boolean needsFreshSolve(CommandLine cmd) {
+        return cmd.hasOption("t") || cmd.hasOption("e") || cmd.hasOption("stats");
+    }
+
+    // The cache is optional; null when -c is missing
+    private static SolutionCache openCache(CommandLine cmd) throws Exception {
+        if (!cmd.hasOption("c")) {
+            return null;
+        }
+        long megabytes = Long.parseLong(cmd.getOptionValue("cache-size", "256"));
+        return new SolutionCache(Path.of(cmd.getOptionValue("c")), megabytes << 20, 1024);
+    }
+
+    private static void generateMaze(CommandLine cmd) throws Exception {
+        if (!cmd.hasOption("o")) {
+            logger.error("Missing required -o flag for the generated maze.");
+            return;
+        }
+        String[] size = cmd.getOptionValue("g").toLowerCase().split("x");
+        if (size.length != 2) {
+            throw new IllegalArgumentException("Maze size must look like WIDTHxHEIGHT.");
+        }
+        MazeGenerator generator = new MazeGenerator(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()),
+                Long.parseLong(cmd.getOptionValue("s", "0")), Double.parseDouble(cmd.getOptionValue("l", "0")));
+        generator.write(Path.of(cmd.getOptionValue("o")));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Loads a text maze by scanning the file bytes in place, eight bytes at a time, and writing
+ * walls directly into a WallGrid. Files are memory-mapped in windows, so they may exceed 2 GB.
+ */
+public class MappedMazeLoader {
+    private static final long WINDOW_SIZE = 1L << 30;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long WALLS = 0x2323232323232323L;
+
+    private final ByteBuffer[] windows;
+    private final long size;
+    private long[] lineStarts = new long[1024];
+    private int[] lineLengths = new int[1024];
+    private int lineCount;
+    private int maxLength;
+
+    private MappedMazeLoader(ByteBuffer[] windows, long size) {
+        this.windows = windows;
+        this.size = size;
+    }
+
+    public static WallGrid load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] windows = new ByteBuffer[(int) ((size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+            for (int i = 0; i < windows.length; i++) {
+                long offset = i * WINDOW_SIZE;
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            }
+            return new MappedMazeLoader(windows, size).parse();
+        }
+    }
+
+    // Parses a maze already held in memory, e.g. a request body
+    public static WallGrid load(ByteBuffer buffer) throws IOException {
+        ByteBuffer window = buffer.slice();
+        return new MappedMazeLoader(new ByteBuffer[]{window}, window.remaining()).parse();
+    }
+
+    private WallGrid parse() throws IOException {
+        findLines();
+        if (lineCount == 0) {
+            throw new IOException("Maze file is empty.");
+        }
+        // Every row is padded to the longest one; padding cells are passages, which is the grid's default
+        WallGrid grid = new WallGrid(lineCount, maxLength);
+        for (int row = 0; row < lineCount; row++) {
+            scanRow(grid, row, lineStarts[row], lineLengths[row]);
+        }
+        return grid;
+    }
+
+    // First pass: locate every '\n' and record where each line starts and how long it is
+    private void findLines() {
+        long lineStart = 0;
+        for (int w = 0; w < windows.length; w++) {
+            ByteBuffer window = windows[w].order(ByteOrder.LITTLE_ENDIAN);
+            long base = w * WINDOW_SIZE;
+            int limit = window.limit();
+            int i = 0;
+            for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+                long matches = matchBytes(window.getLong(i), NEWLINES);
+                while (matches != 0) {
+                    long end = base + i + (Long.numberOfTrailingZeros(matches) >>> 3);
+                    addLine(lineStart, end);
+                    lineStart = end + 1;
+                    matches &= matches - 1;
+                }
+            }
+            for (; i < limit; i++) {
+                if (window.get(i) == '\n') {
+                    addLine(lineStart, base + i);
+                    lineStart = base + i + 1;
+                }
+            }
+        }
+        // Like BufferedReader.readLine, a trailing newline does not start an extra empty line
+        if (lineStart < size) {
+            addLine(lineStart, size);
+        }
+    }
+
+    private void addLine(long start, long end) {
+        long length = end - start;
+        if (length > 0 && byteAt(end - 1) == '\r') {
+            length--;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Maze row " + lineCount + " is too long.");
+        }
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+            lineLengths = Arrays.copyOf(lineLengths, lineCount * 2);
+        }
+        lineStarts[lineCount] = start;
+        lineLengths[lineCount] = (int) length;
+        lineCount++;
+        maxLength = Math.max(maxLength, (int) length);
+    }
+
+    // Second pass: turn each run of eight bytes into eight wall bits and OR them into the row
+    private void scanRow(WallGrid grid, int row, long start, int length) {
+        int col = 0;
+        for (; col + Long.BYTES <= length; col += Long.BYTES) {
+            long position = start + col;
+            int w = (int) (position / WINDOW_SIZE);
+            int offset = (int) (position - w * WINDOW_SIZE);
+            if (offset + Long.BYTES > windows[w].limit()) {
+                break; // Row crosses into the next window, finish it byte by byte
+            }
+            long bits = packHighBits(matchBytes(windows[w].getLong(offset), WALLS));
+            if (bits != 0) {
+                grid.orBits(row, col, bits);
+            }
+        }
+        for (; col < length; col++) {
+            if (byteAt(start + col) == '#') {
+                grid.setWall(row, col);
+            }
+        }
+    }
+
+    private byte byteAt(long position) {
+        int w = (int) (position / WINDOW_SIZE);
+        return windows[w].get((int) (position - w * WINDOW_SIZE));
+    }
+
+    // Sets the high bit of every byte in word that equals the matching byte in pattern, and only those
+    private static long matchBytes(long word, long pattern) {
+        long x = word ^ pattern;
+        long t = (x & LOW_SEVEN_BITS) + LOW_SEVEN_BITS;
+        return ~(t | x | LOW_SEVEN_BITS);
+    }
+
+    // Gathers the eight per-byte high bits into the low byte, byte i becoming bit i
+    private static long packHighBits(long highBits) {
+        return ((highBits >>> 7) * 0x0102040810204080L) >>> 56;
+    }
+}
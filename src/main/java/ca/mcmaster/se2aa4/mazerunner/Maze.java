@@ -1,22 +1,53 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
+import java.util.Objects;
+
 public class Maze {
-    private final Character[][] grid;
+    private final WallGrid grid;
     private final int entryRow;
-    private final int entryCol = 0; // Entry always at column 0
+    private final int entryCol;
     private final int exitRow;
     private final int exitCol;
     private boolean solved;
+    private volatile ExitDistanceField exitDistances;
 
     public Maze(Character[][] grid) {
-        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+        this(WallGrid.fromChars(grid));
+    }
+
+    public Maze(WallGrid grid) {
+        if (grid == null) {
             throw new IllegalArgumentException("Grid cannot be null or empty");
         }
         this.grid = grid;
+        this.entryCol = 0; // Entry always at column 0
         this.entryRow = findEntryRow();
-        this.exitCol = grid[0].length - 1;
+        this.exitCol = grid.getWidth() - 1;
         this.exitRow = findExitRow();
-        this.solved = false; 
+        this.solved = false;
+    }
+
+    // Uses entry and exit points that are already known, e.g. from a binary maze header, instead of scanning for them
+    public Maze(WallGrid grid, int entryRow, int entryCol, int exitRow, int exitCol) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Grid cannot be null or empty");
+        }
+        this.grid = grid;
+        this.entryRow = entryRow;
+        this.entryCol = entryCol;
+        this.exitRow = exitRow;
+        this.exitCol = exitCol;
+        this.solved = false;
+        if (!isOpenCell(entryRow, entryCol)) {
+            throw new IllegalArgumentException("Entry point (" + entryRow + ", " + entryCol + ") is not an open cell.");
+        }
+        if (!isOpenCell(exitRow, exitCol)) {
+            throw new IllegalArgumentException("Exit point (" + exitRow + ", " + exitCol + ") is not an open cell.");
+        }
+    }
+
+    private boolean isOpenCell(int row, int col) {
+        return row >= 0 && row < grid.getHeight() && col >= 0 && col < grid.getWidth() && grid.isOpen(row, col);
     }
 
     // Set the maze as solved
@@ -30,8 +61,8 @@ public class Maze {
     }
 
     private int findEntryRow() {
-        for (int i = 0; i < grid.length; i++) {
-            if (grid[i][entryCol] == ' ') {
+        for (int i = 0; i < grid.getHeight(); i++) {
+            if (grid.isOpen(i, entryCol)) {
                 return i;
             }
         }
@@ -39,50 +70,75 @@ public class Maze {
     }
 
     private int findExitRow() {
-        for (int i = 0; i < grid.length; i++) {
-            if (grid[i][exitCol] == ' ') {
+        for (int i = 0; i < grid.getHeight(); i++) {
+            if (grid.isOpen(i, exitCol)) {
                 return i;
             }
         }
         throw new IllegalStateException("No exit point found at the rightmost column.");
     }
 
+    // Every open cell of the West border, top to bottom; the entry is the first of them unless given explicitly
+    public int[] getWestOpenings() {
+        IntList rows = new IntList();
+        for (int row = 0; row < grid.getHeight(); row++) {
+            if (grid.isOpen(row, 0)) {
+                rows.add(row);
+            }
+        }
+        int[] openings = new int[rows.size()];
+        for (int i = 0; i < openings.length; i++) {
+            openings[i] = rows.get(i);
+        }
+        return openings;
+    }
+
+    // Flood-filled from the exit on first use, then shared by every query on this maze
+    public ExitDistanceField getExitDistanceField() {
+        ExitDistanceField field = exitDistances;
+        if (field == null) {
+            synchronized (this) {
+                field = exitDistances;
+                if (field == null) {
+                    field = ExitDistanceField.compute(this);
+                    exitDistances = field;
+                }
+            }
+        }
+        return field;
+    }
+
     public int getEntryRow() { return entryRow; }
     public int getEntryCol() { return entryCol; }
     public int getExitRow() { return exitRow; }
     public int getExitCol() { return exitCol; }
-    public Character[][] getGrid() { return grid; }
+    public int getHeight() { return grid.getHeight(); }
+    public int getWidth() { return grid.getWidth(); }
+    public WallGrid getWallGrid() { return grid; }
 
     public boolean isExit(int row, int col) {
         return row == exitRow && col == exitCol;
     }
 
     public char returnCellValue(int row, int col) {
-        return grid[row][col];
+        Objects.checkIndex(row, grid.getHeight());
+        Objects.checkIndex(col, grid.getWidth());
+        return grid.isWall(row, col) ? '#' : ' ';
     }
 
     // Valid change in position while moving forward (Change in position can only occur while moving forward)
     public boolean isValidMove(Position position, Direction direction) {
-        int row = position.getRow();
-        int col = position.getCol();
-
-        return switch (direction) {
-            case NORTH -> row > 0 && grid[row - 1][col] == ' ';
-            case SOUTH -> row < grid.length - 1 && grid[row + 1][col] == ' ';
-            case EAST -> col < grid[0].length - 1 && grid[row][col + 1] == ' ';
-            case WEST -> col > 0 && grid[row][col - 1] == ' ';
-            default -> false;
-        };
+        return grid.isOpen(position.getRow(), position.getCol(), direction);
     }
 
     public String printMaze() {
         StringBuilder sb = new StringBuilder();
-        for (Character[] row : grid) {
-            for (Character cell : row) {
-                sb.append(cell).append(" ");
+        for (int row = 0; row < grid.getHeight(); row++) {
+            for (int col = 0; col < grid.getWidth(); col++) {
+                sb.append(grid.isWall(row, col) ? '#' : ' ').append(" ");
             }
             sb.append("\n");
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
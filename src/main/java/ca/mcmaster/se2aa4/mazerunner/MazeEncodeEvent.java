@@ -0,0 +1,21 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event around Encoder.encode. Streaming solves encode inside their MazeSolveEvent instead.
+ */
+@Name("ca.mcmaster.se2aa4.mazerunner.MazeEncode")
+@Label("Path Encode")
+@Category("Maze Runner")
+@StackTrace(false)
+public class MazeEncodeEvent extends jdk.jfr.Event {
+    @Label("Canonical Length")
+    int canonicalLength;
+
+    @Label("Factorized Length")
+    int factorizedLength;
+}
@@ -1,9 +1,10 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -11,35 +12,65 @@ import org.apache.logging.log4j.Logger;
 public class MazeFileReader {
     private static final Logger logger = LogManager.getLogger();
 
-    // Reads a maze from a file and returns it as a 2D character array
-    public static Character[][] readMaze(String filePath) throws Exception {
+    // Reads a maze from a file straight into a bit-packed wall grid, without copying it onto the heap.
+    // Binary mazes are recognised by their magic number; anything else is parsed as text.
+    public static Maze readMaze(String filePath) throws Exception {
         logger.info("Reading the maze from file: {}", filePath);
 
-        List<String> lines;
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            lines = new ArrayList<>();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                lines.add(line); // Store each line of the maze
-            }
-        }
+        MazeLoadEvent event = new MazeLoadEvent();
+        event.begin();
+        Path path = Path.of(filePath);
+        boolean binary = isBinary(path);
+        Maze maze = load(event, filePath, binary ? "binary" : "text",
+                () -> binary ? BinaryMazeFormat.read(path) : new Maze(MappedMazeLoader.load(path)));
 
-        if (lines.isEmpty()) {
-            throw new Exception("Maze file is empty.");
-        }
+        logger.info("Maze read successfully with {} rows and {} columns.", maze.getHeight(), maze.getWidth());
+        return maze;
+    }
+
+    // Reads a maze held in memory, in either format
+    public static Maze readMaze(ByteBuffer buffer) throws IOException {
+        MazeLoadEvent event = new MazeLoadEvent();
+        event.begin();
+        boolean binary = BinaryMazeFormat.isBinary(buffer);
+        return load(event, "buffer", binary ? "binary" : "text",
+                () -> binary ? BinaryMazeFormat.read(buffer) : new Maze(MappedMazeLoader.load(buffer)));
+    }
 
-        int maxLength = lines.stream().mapToInt(String::length).max().orElse(0);
-        Character[][] mazeArray = new Character[lines.size()][maxLength];
+    private interface Loader {
+        Maze load() throws IOException;
+    }
 
-        // Convert list of strings into a 2D character array
-        for (int i = 0; i < lines.size(); i++) {
-            String row = lines.get(i);
-            for (int j = 0; j < maxLength; j++) {
-                mazeArray[i][j] = j < row.length() ? row.charAt(j) : ' '; // Fill missing spaces
+    // Runs loader and commits the already begun event with the outcome, if a recording wants it
+    private static Maze load(MazeLoadEvent event, String source, String format, Loader loader) throws IOException {
+        Maze maze = null;
+        String outcome = "ok";
+        try {
+            maze = loader.load();
+            return maze;
+        } catch (IOException | RuntimeException e) {
+            outcome = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.source = source;
+                event.format = format;
+                event.height = maze == null ? 0 : maze.getHeight();
+                event.width = maze == null ? 0 : maze.getWidth();
+                event.outcome = outcome;
+                event.commit();
             }
         }
+    }
 
-        logger.info("Maze read successfully with {} rows and {} columns.", lines.size(), maxLength);
-        return mazeArray;
+    private static boolean isBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) != -1) {
+                // Keep reading until the magic is complete or the file ends
+            }
+            return BinaryMazeFormat.isBinary(magic.flip());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Generates mazes in the text format read by MazeFileReader, with one entry on column 0 and one exit on the last
+ * column. Mazes are carved with the sidewinder algorithm, where each row only depends on its own random
+ * generator seeded from (seed, row). Rows can therefore be generated in parallel, and the same seed always gives
+ * the same maze. With loops above 0, extra walls are knocked down so the maze is no longer perfect.
+ */
+public class MazeGenerator {
+    private static final Logger logger = LogManager.getLogger();
+    private static final int BAND_BYTES = 16 << 20;
+    private static final byte WALL = '#';
+    private static final byte PASSAGE = ' ';
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private final double loops;
+    private final int cellColumns;
+    private final int cellRows;
+
+    public MazeGenerator(int width, int height, long seed, double loops) {
+        if (width < 3 || height < 3) {
+            throw new IllegalArgumentException("Maze must be at least 3x3.");
+        }
+        if (loops < 0 || loops > 1) {
+            throw new IllegalArgumentException("Loop probability must be between 0 and 1.");
+        }
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.loops = loops;
+        // Cells sit on odd rows and columns; with an even size the last row or column stays a wall
+        this.cellColumns = (width - 1) / 2;
+        this.cellRows = (height - 1) / 2;
+    }
+
+    public void write(Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(channel);
+        }
+    }
+
+    /**
+     * Writes the maze band by band: the cell rows of a band are generated in parallel into one buffer,
+     * which is then written to the channel in a single call.
+     */
+    public void write(WritableByteChannel channel) throws IOException {
+        long start = System.nanoTime();
+        int lineLength = width + 1;
+        SplittableRandom openings = new SplittableRandom(seed);
+        int entryRow = 2 * openings.nextInt(cellRows) + 1;
+        int exitRow = 2 * openings.nextInt(cellRows) + 1;
+
+        // Each cell row produces two text lines: the wall line above it and the line of cells itself
+        int rowsPerBand = Math.max(1, BAND_BYTES / (2 * lineLength));
+        byte[] band = new byte[Math.multiplyExact(Math.min(rowsPerBand, cellRows) * 2, lineLength)];
+        for (int first = 0; first < cellRows; first += rowsPerBand) {
+            int bandStart = first;
+            int bandEnd = Math.min(cellRows, first + rowsPerBand);
+            IntStream.range(bandStart, bandEnd).parallel().forEach(row ->
+                    carveRow(row, band, (row - bandStart) * 2 * lineLength, entryRow, exitRow));
+            writeFully(channel, ByteBuffer.wrap(band, 0, (bandEnd - bandStart) * 2 * lineLength));
+        }
+
+        // Bottom border, plus one more wall line when the height is even
+        byte[] wallLine = new byte[lineLength];
+        Arrays.fill(wallLine, WALL);
+        wallLine[width] = '\n';
+        for (int line = 2 * cellRows; line < height; line++) {
+            writeFully(channel, ByteBuffer.wrap(wallLine));
+        }
+        logger.info("Generated a {}x{} maze in {} ms.", width, height, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Fills text lines 2 * row (north walls) and 2 * row + 1 (cells and east walls) starting at offset
+    private void carveRow(int row, byte[] band, int offset, int entryRow, int exitRow) {
+        int north = offset;
+        int cells = offset + width + 1;
+        Arrays.fill(band, north, cells + width, WALL);
+        band[north + width] = '\n';
+        band[cells + width] = '\n';
+
+        SplittableRandom random = new SplittableRandom(mix(seed + (row + 1) * 0x9E3779B97F4A7C15L));
+        int runStart = 0;
+        for (int col = 0; col < cellColumns; col++) {
+            band[cells + 2 * col + 1] = PASSAGE;
+            if (row == 0) {
+                // The top row has nothing to join north to, so it is a single corridor
+                if (col < cellColumns - 1) {
+                    band[cells + 2 * col + 2] = PASSAGE;
+                }
+                continue;
+            }
+            if (col < cellColumns - 1 && random.nextBoolean()) {
+                band[cells + 2 * col + 2] = PASSAGE;
+            } else {
+                // Close the run and join it to the row above through one of its cells
+                int joined = runStart + random.nextInt(col - runStart + 1);
+                band[north + 2 * joined + 1] = PASSAGE;
+                runStart = col + 1;
+            }
+            if (loops > 0 && random.nextDouble() < loops) {
+                band[north + 2 * col + 1] = PASSAGE;
+            }
+        }
+
+        int line = 2 * row + 1;
+        if (line == entryRow) {
+            band[cells] = PASSAGE;
+        }
+        if (line == exitRow) {
+            // Runs through the spare wall column too when the width is even
+            Arrays.fill(band, cells + 2 * cellColumns, cells + width, PASSAGE);
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // Spreads consecutive row seeds apart so neighbouring rows do not share random sequences
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,106 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Load generator for MazeServer. Sends the same maze body over one connection, keeping up to pipeline
+ * requests in flight, and reports throughput together with the latency percentiles.
+ */
+public class MazeLoadClient {
+    private final String host;
+    private final int port;
+
+    public MazeLoadClient(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public void run(byte[] maze, String method, int requests, int pipeline, PrintStream out)
+            throws IOException, InterruptedException {
+        if (requests < 1 || pipeline < 1) {
+            throw new IllegalArgumentException("Requests and pipeline depth must be at least 1.");
+        }
+        AtomicLongArray sentAt = new AtomicLongArray(requests);
+        long[] latencies = new long[requests]; // In the order the answers arrive
+        AtomicInteger answered = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicBoolean readerDone = new AtomicBoolean();
+        Semaphore window = new Semaphore(pipeline);
+        byte[] header = (" SOLVE " + method + " BODY " + maze.length + "\n").getBytes(StandardCharsets.UTF_8);
+
+        try (Socket socket = new Socket(host, port)) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            Thread reader = Thread.ofVirtual().start(() -> {
+                try {
+                    for (int received = 0; received < requests; received++) {
+                        String reply = MazeServer.readLine(in);
+                        if (reply == null) {
+                            break;
+                        }
+                        String[] fields = reply.split(" ", 3);
+                        long latency = System.nanoTime() - sentAt.get(Integer.parseInt(fields[0]));
+                        latencies[answered.getAndIncrement()] = latency;
+                        if (fields.length < 2 || !fields[1].equals("OK")) {
+                            errors.incrementAndGet();
+                        }
+                        window.release();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // A closed connection or a reply that is not ours; whatever is still unanswered counts as failed
+                } finally {
+                    // Wakes the sender if it waits for a slot that no answer will free
+                    readerDone.set(true);
+                    window.release(requests);
+                }
+            });
+
+            long start = System.nanoTime();
+            OutputStream output = new BufferedOutputStream(socket.getOutputStream());
+            try {
+                for (int id = 0; id < requests; id++) {
+                    window.acquire();
+                    if (readerDone.get()) {
+                        break;
+                    }
+                    sentAt.set(id, System.nanoTime());
+                    output.write(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+                    output.write(header);
+                    output.write(maze);
+                    output.flush();
+                }
+            } catch (IOException e) {
+                socket.shutdownInput(); // The server went away; stop the reader too and report what was answered
+            }
+            reader.join();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            // Percentiles cover the answered requests only, an unanswered one has no latency
+            int count = answered.get();
+            Arrays.sort(latencies, 0, count);
+            out.printf("%d requests in %.1f ms: %.1f req/s, p50 %.3f ms, p99 %.3f ms, max %.3f ms, %d errors%n",
+                    requests, seconds * 1000, count / seconds, percentile(latencies, count, 0.50),
+                    percentile(latencies, count, 0.99), percentile(latencies, count, 1.0),
+                    errors.get() + requests - count);
+        }
+    }
+
+    private static double percentile(long[] sorted, int count, double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * count) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,34 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event around MazeFileReader.readMaze.
+ */
+@Name("ca.mcmaster.se2aa4.mazerunner.MazeLoad")
+@Label("Maze Load")
+@Category("Maze Runner")
+@Description("A maze read from a file or a buffer")
+@StackTrace(false)
+public class MazeLoadEvent extends jdk.jfr.Event {
+    @Label("Source")
+    String source;
+
+    @Label("Format")
+    @Description("text or binary")
+    String format;
+
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Outcome")
+    @Description("ok, or the error that stopped the load")
+    String outcome;
+}
@@ -5,9 +5,23 @@ package ca.mcmaster.se2aa4.mazerunner;
  */
 public class MazeNavigationFactory {
 
-    // Return a MazeNavigation strategy. For now, assume we only have a RightHandNavigation strategy.
+    // Strategy used when none is named; the table-driven one walks the same path with fewer branches
+    public static final String DEFAULT_STRATEGY = "table";
+
+    // Return the MazeNavigation strategy used when none is named.
     public static MazeNavigation createStrategy(RightHandNavigation solver) {
-        return new DefaultMazeNavigationStrategy(solver);
+        return createStrategy(solver, DEFAULT_STRATEGY);
+    }
+
+    // Return the named strategy: "default" for the rule-by-rule strategy, "table" for the table-driven one.
+    public static MazeNavigation createStrategy(RightHandNavigation solver, String strategyType) {
+        if (strategyType.equalsIgnoreCase("default")) {
+            return new DefaultMazeNavigationStrategy(solver);
+        }
+        if (strategyType.equalsIgnoreCase("table")) {
+            return new TableNavigationStrategy(solver);
+        }
+        throw new IllegalArgumentException("Unknown navigation strategy: " + strategyType);
     }
 
     // Create a MazeSolver and the algorithmType determines which solver is created.
@@ -15,7 +29,28 @@ public class MazeNavigationFactory {
         if (algorithmType == null || algorithmType.isEmpty() || algorithmType.equalsIgnoreCase("righthand") || algorithmType.equalsIgnoreCase("default")) {
             return RightHandNavigation.create(maze);
         }
-        // Add future solvers here, e.g., BFS, DFS, etc.
+        if (algorithmType.equalsIgnoreCase("bfs")) {
+            return new BreadthFirstNavigation(maze);
+        }
+        if (algorithmType.equalsIgnoreCase("astar")) {
+            return new AStarNavigation(maze);
+        }
+        if (algorithmType.equalsIgnoreCase("jps")) {
+            return new JumpPointNavigation(maze);
+        }
+        if (algorithmType.equalsIgnoreCase("bidirectional")) {
+            return new BidirectionalNavigation(maze);
+        }
+        if (algorithmType.equalsIgnoreCase("tremaux")) {
+            return new TremauxNavigation(maze);
+        }
+        if (algorithmType.equalsIgnoreCase("pledge")) {
+            return new PledgeNavigation(maze);
+        }
+        if (algorithmType.equalsIgnoreCase("parallel-bfs")) {
+            return new ParallelBreadthFirstNavigation(maze);
+        }
+        // Add future solvers here.
         throw new IllegalArgumentException("Unknown algorithm type: " + algorithmType);
     }
 }
\ No newline at end of file
@@ -1,20 +1,116 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class MazeRunner {
     private static final Logger logger = LogManager.getLogger();
+    private final Maze maze;
     private final MazeSolver solver;
+    private final String algorithmType;
+    private boolean eraseLoops;
+    private SolveMetrics metrics;
 
-    public MazeRunner(Character[][] mazeArray, String algorithmType) {
-        Maze maze = new Maze(mazeArray);
+    public MazeRunner(Maze maze, String algorithmType) {
+        this.maze = maze;
+        this.algorithmType = algorithmType;
         this.solver = MazeNavigationFactory.createSolver(maze, algorithmType);
     }
 
+    // Passes the solver's moves through a LoopEraser before they are factorized
+    public void enableLoopErasure() {
+        this.eraseLoops = true;
+    }
+
+    // Records a step trace during the next solve; only the right-hand walker moves step by step
+    public void enableTrace() {
+        if (!(solver instanceof RightHandNavigation navigation)) {
+            throw new IllegalArgumentException("Tracing is only available for the righthand method.");
+        }
+        navigation.enableTrace();
+    }
+
+    public SolverTrace getTrace() {
+        return solver instanceof RightHandNavigation navigation ? navigation.getTrace() : null;
+    }
+
+    // Fills metrics with the counters and timings of the next solve
+    public void recordMetrics(SolveMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Solves the maze, factorizing the moves as the solver produces them
     public String solveMaze() throws Exception {
-        solver.solve();
-        logger.info("Maze solved using " + solver.getClass().getSimpleName());
-        return Encoder.encode(solver.getFinalOutput());
+        StringBuilder factorizedPath = new StringBuilder();
+        solveInto(factorizedPath);
+        return factorizedPath.toString();
+    }
+
+    /**
+     * Solves the maze and writes the factorized path to out token by token, so the path is never held in memory.
+     * The writer is neither flushed nor closed. If the solve fails, what out has received is not a usable path.
+     */
+    public void solveMaze(Writer out) throws Exception {
+        solveInto(out);
+    }
+
+    // Same as solveMaze(Writer), for a file or socket channel; the channel is left open
+    public void solveMaze(WritableByteChannel channel) throws Exception {
+        Writer out = Channels.newWriter(channel, StandardCharsets.US_ASCII);
+        solveInto(out);
+        out.flush();
+    }
+
+    private void solveInto(Appendable out) {
+        MazeSolveEvent event = new MazeSolveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        StreamingEncoder encoder = new StreamingEncoder(out);
+        LoopEraser eraser = eraseLoops ? new LoopEraser(maze, encoder) : null;
+        MoveSink sink = eraser != null ? eraser : encoder;
+        if (metrics != null) {
+            sink = metrics.wrap(sink);
+        }
+        // Only count moves for Flight Recorder while a recording wants them
+        SolveProgress progress = event.isEnabled() ? SolveProgress.start(sink, algorithmType, maze) : null;
+        if (progress != null) {
+            sink = progress;
+        }
+        try {
+            solver.solve(sink);
+            sink.finish();
+            if (!encoder.hasOutput()) {
+                throw new IllegalArgumentException("There is no path available.");
+            }
+            event.outcome = "solved";
+        } catch (RuntimeException e) {
+            event.outcome = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            throw e;
+        } finally {
+            if (progress != null) {
+                progress.stop();
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.algorithm = algorithmType;
+                event.height = maze.getHeight();
+                event.width = maze.getWidth();
+                event.moves = progress == null ? 0 : progress.getMoves();
+                event.steps = progress == null ? 0 : progress.getSteps();
+                event.cellsVisited = solver.getNodesExpanded();
+                event.commit();
+            }
+        }
+        if (metrics != null) {
+            // Without loop erasure the emitted path is the only one the solver hands over
+            metrics.recordSolve(System.nanoTime() - start, solver.getNodesExpanded(),
+                    eraser != null ? eraser.getPeakPathLength() : metrics.getSteps());
+        }
+        logger.info("Maze solved using {}", solver.getClass().getSimpleName());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,230 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Local solve service, so one warmed-up JVM can answer many requests. Listens on the loopback interface and
+ * speaks a line protocol where each request carries an id chosen by the client:
+ * <pre>
+ * ID SOLVE METHOD FILE path          ID SOLVE METHOD BODY length
+ * ID VALIDATE PATH FILE path         ID VALIDATE PATH BODY length
+ * </pre>
+ * A BODY header is followed by exactly length bytes of maze text, and the PATH to validate must not contain
+ * spaces. A BODY header without a valid length ends the connection, as the next header can no longer be found.
+ * Every request runs on its own virtual thread, so a connection may have many requests in flight and
+ * answers come back in completion order as "ID OK result" or "ID ERROR message".
+ * SOLVE requests are counted in a SolveStats MBean named server-PORT.
+ */
+public class MazeServer implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger();
+    private static final int MAX_IN_FLIGHT = 64; // Per connection; the reader stops accepting requests beyond this
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final SolveStats stats;
+    private volatile boolean closed;
+
+    public MazeServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.stats = SolveStats.register("server-" + serverSocket.getLocalPort());
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public SolveStats getStats() {
+        return stats;
+    }
+
+    // Accepts connections in the background
+    public void start() {
+        connections.submit(this::serve);
+    }
+
+    // Accepts connections on the calling thread until the server is closed
+    public void serve() {
+        logger.info("Listening on {}:{}", serverSocket.getInetAddress().getHostAddress(), getPort());
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.submit(() -> handle(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    logger.error("Could not accept a connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        connections.shutdownNow();
+        stats.close();
+    }
+
+    private void handle(Socket socket) {
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        try (socket; ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            String header;
+            while ((header = readLine(in)) != null) {
+                if (header.isBlank()) {
+                    continue;
+                }
+                Request request;
+                try {
+                    request = Request.parse(header, in);
+                } catch (IllegalArgumentException e) {
+                    respond(out, header.split(" ", 2)[0], "ERROR " + e.getMessage());
+                    continue;
+                } catch (ProtocolException e) {
+                    // Where this request ends is unknown, so nothing after it can be read as a header
+                    respond(out, header.split(" ", 2)[0], "ERROR " + e.getMessage());
+                    break;
+                }
+                inFlight.acquire();
+                requests.submit(() -> {
+                    try {
+                        respond(out, request.id, "OK " + request.answer(stats));
+                    } catch (Exception e) {
+                        respond(out, request.id, "ERROR " + describe(e));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (IOException e) {
+            logger.warn("Connection closed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(Writer out, String id, String reply) {
+        synchronized (out) {
+            try {
+                out.write(id + " " + reply + "\n");
+                out.flush();
+            } catch (IOException e) {
+                logger.warn("Could not answer request {}: {}", id, e.getMessage());
+            }
+        }
+    }
+
+    private static String describe(Exception e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        return message.replaceAll("\\R", " ");
+    }
+
+    // Reads one '\n'-terminated line, without its '\r'; null at the end of the stream
+    static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            line.write(b);
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        String text = line.toString(StandardCharsets.UTF_8);
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    private static final class Request {
+        private final String id;
+        private final String command;
+        private final String argument;
+        private final String file;
+        private final byte[] body;
+
+        private Request(String id, String command, String argument, String file, byte[] body) {
+            this.id = id;
+            this.command = command;
+            this.argument = argument;
+            this.file = file;
+            this.body = body;
+        }
+
+        /**
+         * Parses a header and, for BODY requests, reads the maze bytes that follow it. The body is consumed before
+         * anything else is checked, so a request that is wrong in any other way still leaves the stream at the
+         * next header. A BODY header without a valid length cannot be skipped, and throws ProtocolException.
+         */
+        static Request parse(String header, InputStream in) throws IOException {
+            String[] fields = header.split(" ", 5);
+            byte[] body = null;
+            if (fields.length >= 4 && fields[3].equalsIgnoreCase("BODY")) {
+                body = readBody(fields.length == 5 ? fields[4] : "", in);
+            }
+            if (fields.length != 5) {
+                throw new IllegalArgumentException("Expected: ID COMMAND ARGUMENT FILE|BODY VALUE");
+            }
+            String command = fields[1].toUpperCase();
+            if (!command.equals("SOLVE") && !command.equals("VALIDATE")) {
+                throw new IllegalArgumentException("Unknown command: " + fields[1]);
+            }
+            return switch (fields[3].toUpperCase()) {
+                case "FILE" -> new Request(fields[0], command, fields[2], fields[4], null);
+                case "BODY" -> new Request(fields[0], command, fields[2], null, body);
+                default -> throw new IllegalArgumentException("Expected FILE or BODY, got: " + fields[3]);
+            };
+        }
+
+        private static byte[] readBody(String lengthField, InputStream in) throws IOException {
+            int length;
+            try {
+                length = Integer.parseInt(lengthField.trim());
+            } catch (NumberFormatException e) {
+                throw new ProtocolException("Invalid body length: " + lengthField);
+            }
+            if (length < 0) {
+                throw new ProtocolException("Invalid body length: " + lengthField);
+            }
+            byte[] body = in.readNBytes(length);
+            if (body.length != length) {
+                throw new IOException("Connection closed in the middle of a maze body.");
+            }
+            return body;
+        }
+
+        String answer(SolveStats stats) throws Exception {
+            SolveMetrics metrics = new SolveMetrics();
+            Maze maze = metrics.timeParse(() -> file != null ? MazeFileReader.readMaze(file) : MazeFileReader.readMaze(ByteBuffer.wrap(body)));
+            if (!command.equals("SOLVE")) {
+                return PathValidator.isValidPath(maze, argument) ? "correct path" : "incorrect path";
+            }
+            MazeRunner runner = new MazeRunner(maze, argument);
+            runner.recordMetrics(metrics);
+            try {
+                String path = runner.solveMaze();
+                stats.record(metrics);
+                return path;
+            } catch (Exception e) {
+                stats.recordFailure(metrics);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event around one MazeRunner solve, streaming encoder included.
+ */
+@Name("ca.mcmaster.se2aa4.mazerunner.MazeSolve")
+@Label("Maze Solve")
+@Category("Maze Runner")
+@Description("A maze solved by one algorithm, from the first move to the last factorized token")
+@StackTrace(false)
+public class MazeSolveEvent extends jdk.jfr.Event {
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Moves")
+    @Description("F, L and R moves emitted by the solver")
+    long moves;
+
+    @Label("Steps")
+    @Description("F moves emitted by the solver")
+    long steps;
+
+    @Label("Cells Visited")
+    long cellsVisited;
+
+    @Label("Outcome")
+    @Description("solved, or the error that stopped the solve")
+    String outcome;
+}
@@ -4,4 +4,15 @@ package ca.mcmaster.se2aa4.mazerunner;
 public interface MazeSolver{
       void solve();
       String getFinalOutput();
-}
\ No newline at end of file
+      // Number of cells the solver stepped into or expanded, used to compare search effort
+      long getNodesExpanded();
+
+      // Solves the maze and feeds each canonical move to sink; solvers override this to skip buffering the path
+      default void solve(MoveSink sink) {
+            solve();
+            String path = getFinalOutput();
+            for (int i = 0; i < path.length(); i++) {
+                  sink.accept(path.charAt(i));
+            }
+      }
+}
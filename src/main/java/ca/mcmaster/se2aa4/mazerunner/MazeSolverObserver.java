@@ -1,5 +1,6 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
+// Observers are called on the event bus consumer thread, never on the solver thread
 public interface MazeSolverObserver {
-    void update(String message);
-}
\ No newline at end of file
+    void update(SolverEvent event);
+}
@@ -0,0 +1,12 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * Receives canonical moves ('F', 'L' or 'R') one at a time, as a solver produces them.
+ */
+@FunctionalInterface
+public interface MoveSink {
+    void accept(char move);
+
+    // Called once after the last move
+    default void finish() {}
+}
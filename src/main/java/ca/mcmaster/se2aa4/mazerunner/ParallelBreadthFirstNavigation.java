@@ -0,0 +1,227 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Level-synchronous breadth-first search from the exit, for mazes with millions of cells. Each level's frontier is
+ * cut into chunks that a ForkJoinPool expands in parallel. Cells are claimed with a compare-and-set on a shared
+ * visited bitmap, and every chunk appends the cells it claimed to its own next-frontier buffer, so workers never
+ * contend on a shared queue. The buffers are concatenated into the next frontier between levels.
+ * Levels of a single chunk, which corridors produce a lot of, are expanded on the calling thread. Maze frontiers
+ * stay narrow, a few hundred to a few thousand cells even with loops, so chunks are small by default.
+ * Like BreadthFirstNavigation, every cell records the direction of its parent, one step closer to the exit,
+ * so the path can be replayed from the entry. Its length always equals the sequential BFS one.
+ */
+public class ParallelBreadthFirstNavigation implements MazeSolver {
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    private static final byte NONE = -1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Maze maze;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+    private long parallelLevels;
+
+    private WallGrid grid;
+    private int width;
+    private int height;
+    private AtomicLongArray visited;
+    private byte[] towardsExit;
+    private IntList[] buffers = new IntList[0];
+
+    public ParallelBreadthFirstNavigation(Maze maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    // Runs on the given pool, e.g. one with a fixed number of threads for a scaling benchmark
+    public ParallelBreadthFirstNavigation(Maze maze, ForkJoinPool pool) {
+        this(maze, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    // Splits every level into chunks of chunkSize frontier cells; smaller chunks split narrower levels
+    public ParallelBreadthFirstNavigation(Maze maze, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1.");
+        }
+        this.maze = maze;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        grid = maze.getWallGrid();
+        width = grid.getWidth();
+        height = grid.getHeight();
+        int cells = Math.multiplyExact(width, height);
+        int entry = maze.getEntryRow() * width + maze.getEntryCol();
+        int exit = maze.getExitRow() * width + maze.getExitCol();
+
+        visited = new AtomicLongArray((cells + 63) >>> 6);
+        towardsExit = new byte[cells];
+        towardsExit[exit] = NONE;
+        claim(exit);
+        int[] frontier = {exit};
+        int frontierSize = 1;
+        nodesExpanded = 0;
+        parallelLevels = 0;
+
+        while (frontierSize > 0 && !isVisited(entry)) {
+            nodesExpanded += frontierSize;
+            int chunks = (frontierSize + chunkSize - 1) / chunkSize;
+            ensureBuffers(chunks);
+            if (chunks == 1) {
+                expand(frontier, 0, frontierSize, buffers[0]);
+            } else {
+                pool.invoke(new Level(frontier, frontierSize, 0, chunks));
+                parallelLevels++;
+            }
+            // Join the per-chunk buffers into the next frontier
+            int nextSize = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                nextSize += buffers[chunk].size();
+            }
+            int[] next = nextSize <= frontier.length ? frontier : new int[Math.max(nextSize, frontier.length * 2)];
+            int position = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                IntList buffer = buffers[chunk];
+                for (int i = 0; i < buffer.size(); i++) {
+                    next[position++] = buffer.get(i);
+                }
+            }
+            frontier = next;
+            frontierSize = nextSize;
+        }
+
+        if (!isVisited(entry)) {
+            throw new IllegalStateException("No path found.");
+        }
+        emitPath(entry, exit, sink);
+    }
+
+    private final class Level extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] frontier;
+        private final int frontierSize;
+        private final int firstChunk;
+        private final int lastChunk;
+
+        Level(int[] frontier, int frontierSize, int firstChunk, int lastChunk) {
+            this.frontier = frontier;
+            this.frontierSize = frontierSize;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                int from = firstChunk * chunkSize;
+                expand(frontier, from, Math.min(frontierSize, from + chunkSize), buffers[firstChunk]);
+                return;
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new Level(frontier, frontierSize, firstChunk, middle),
+                    new Level(frontier, frontierSize, middle, lastChunk));
+        }
+    }
+
+    // Expands frontier[from, to) into out; towardsExit of a claimed cell is written only by its claimer
+    private void expand(int[] frontier, int from, int to, IntList out) {
+        out.clear();
+        for (int i = from; i < to; i++) {
+            int cell = frontier[i];
+            int row = cell / width;
+            int col = cell - row * width;
+            if (row > 0 && grid.isOpen(row - 1, col)) visit(out, cell - width, Direction.SOUTH);
+            if (col < width - 1 && grid.isOpen(row, col + 1)) visit(out, cell + 1, Direction.WEST);
+            if (row < height - 1 && grid.isOpen(row + 1, col)) visit(out, cell + width, Direction.NORTH);
+            if (col > 0 && grid.isOpen(row, col - 1)) visit(out, cell - 1, Direction.EAST);
+        }
+    }
+
+    private void visit(IntList out, int neighbour, Direction back) {
+        if (claim(neighbour)) {
+            towardsExit[neighbour] = (byte) back.ordinal();
+            out.add(neighbour);
+        }
+    }
+
+    // Sets the cell's visited bit; true only for the one caller that flipped it
+    private boolean claim(int cell) {
+        int index = cell >>> 6;
+        long bit = 1L << (cell & 63);
+        long word = visited.get(index);
+        while ((word & bit) == 0) {
+            long witness = visited.compareAndExchange(index, word, word | bit);
+            if (witness == word) {
+                return true;
+            }
+            word = witness;
+        }
+        return false;
+    }
+
+    private boolean isVisited(int cell) {
+        return (visited.get(cell >>> 6) & (1L << (cell & 63))) != 0;
+    }
+
+    private void ensureBuffers(int chunks) {
+        if (buffers.length < chunks) {
+            IntList[] grown = new IntList[Math.max(chunks, buffers.length * 2)];
+            System.arraycopy(buffers, 0, grown, 0, buffers.length);
+            for (int i = buffers.length; i < grown.length; i++) {
+                grown[i] = new IntList(chunkSize);
+            }
+            buffers = grown;
+        }
+    }
+
+    // Replays the parent directions from the entry; the pool's joins made every write visible to this thread
+    private void emitPath(int entry, int exit, MoveSink sink) {
+        Direction heading = Direction.EAST;
+        int cell = entry;
+        while (cell != exit) {
+            Direction step = DIRECTIONS[towardsExit[cell]];
+            CellPaths.emitTurn(heading, step, sink);
+            sink.accept('F');
+            heading = step;
+            cell += switch (step) {
+                case NORTH -> -width;
+                case EAST -> 1;
+                case SOUTH -> width;
+                case WEST -> -1;
+            };
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    // Levels of the last solve that were wide enough to be split across the pool
+    public long getParallelLevels() {
+        return parallelLevels;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event around PathValidator.isValidPath, which validatePath and the server both go through.
+ */
+@Name("ca.mcmaster.se2aa4.mazerunner.PathValidate")
+@Label("Path Validate")
+@Category("Maze Runner")
+@StackTrace(false)
+public class PathValidateEvent extends jdk.jfr.Event {
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Path Length")
+    @Description("Characters in the path, factorized or not")
+    int pathLength;
+
+    @Label("Valid")
+    boolean valid;
+}
@@ -6,14 +6,93 @@ import org.apache.logging.log4j.Logger;
 public class PathValidator {
     private static final Logger logger = LogManager.getLogger();
 
-    // Compares the generated path with the expected path
-    public static void validatePath(String generatedPath, String providedPath) {
-        if (generatedPath.equals(providedPath)) {
+    // Replays the provided path on the maze and reports whether it leads from one opening to the other
+    public static void validatePath(Maze maze, String providedPath) {
+        if (isValidPath(maze, providedPath)) {
             System.out.println("correct path");
-            logger.info("Validation successful: The generated factorized path matches.");
+            logger.info("Validation successful: The provided path leads through the maze.");
         } else {
             System.out.println("incorrect path");
-            logger.error("Validation failed: Expected '{}', but got '{}'.", providedPath, generatedPath);
+            logger.error("Validation failed: '{}' does not lead through the maze.", providedPath);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Accepts canonical (FFLFF) and factorized (2F L 2F) paths alike. Tokens are parsed as they are replayed, so
+     * the cost is linear in the path length and counts like 3F are never expanded. The maze is not directed,
+     * so the path may start at the entry facing EAST or at the exit facing WEST.
+     */
+    public static boolean isValidPath(Maze maze, CharSequence path) {
+        PathValidateEvent event = new PathValidateEvent();
+        event.begin();
+        boolean valid = replay(maze, path, maze.getEntryRow(), maze.getEntryCol(), Direction.EAST, maze.getExitRow(), maze.getExitCol())
+                || replay(maze, path, maze.getExitRow(), maze.getExitCol(), Direction.WEST, maze.getEntryRow(), maze.getEntryCol());
+        event.end();
+        if (event.shouldCommit()) {
+            event.height = maze.getHeight();
+            event.width = maze.getWidth();
+            event.pathLength = path.length();
+            event.valid = valid;
+            event.commit();
+        }
+        return valid;
+    }
+
+    private static boolean replay(Maze maze, CharSequence path, int row, int col, Direction heading, int targetRow, int targetCol) {
+        Position position = new Position(row, col);
+        long count = 0;
+        boolean hasCount = false;
+
+        for (int i = 0; i < path.length(); i++) {
+            char symbol = path.charAt(i);
+            if (Character.isWhitespace(symbol)) {
+                continue;
+            }
+            if (symbol >= '0' && symbol <= '9') {
+                count = count * 10 + (symbol - '0');
+                hasCount = true;
+                if (count > Integer.MAX_VALUE) {
+                    return false;
+                }
+                continue;
+            }
+            long repeat = hasCount ? count : 1;
+            switch (symbol) {
+                case 'F' -> {
+                    for (long step = 0; step < repeat; step++) {
+                        if (!maze.isValidMove(position, heading)) {
+                            return false;
+                        }
+                        moveForward(position, heading);
+                    }
+                }
+                case 'R' -> {
+                    for (long turn = 0; turn < repeat % 4; turn++) {
+                        heading = heading.turnRight();
+                    }
+                }
+                case 'L' -> {
+                    for (long turn = 0; turn < repeat % 4; turn++) {
+                        heading = heading.turnLeft();
+                    }
+                }
+                default -> {
+                    return false;
+                }
+            }
+            count = 0;
+            hasCount = false;
+        }
+        // A trailing count with no instruction after it is malformed
+        return !hasCount && position.getRow() == targetRow && position.getCol() == targetCol;
+    }
+
+    private static void moveForward(Position position, Direction heading) {
+        switch (heading) {
+            case NORTH -> position.setRow(position.getRow() - 1);
+            case SOUTH -> position.setRow(position.getRow() + 1);
+            case EAST -> position.setCol(position.getCol() + 1);
+            case WEST -> position.setCol(position.getCol() - 1);
+        }
+    }
+}
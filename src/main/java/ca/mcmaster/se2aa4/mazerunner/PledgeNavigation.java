@@ -0,0 +1,77 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * The Pledge algorithm: head EAST, towards the side of the exit, until a wall is in the way, then follow that
+ * wall with the right hand while counting turns (right +1, left -1). The wall is left again only when the count
+ * is back to zero, i.e. when facing EAST with every turn around the obstacle undone, which lets the walker get
+ * past obstacles a plain wall follower would circle forever. It keeps no memory of the cells it crossed, so
+ * the walk is bounded by a step budget instead.
+ */
+public class PledgeNavigation implements MazeSolver {
+    private static final long STEPS_PER_CELL = 16;
+
+    private final Maze maze;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+
+    public PledgeNavigation(Maze maze) {
+        this.maze = maze;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        WallGrid grid = maze.getWallGrid();
+        long budget = STEPS_PER_CELL * grid.getHeight() * grid.getWidth() + 16;
+        int row = maze.getEntryRow();
+        int col = maze.getEntryCol();
+        Direction heading = Direction.EAST;
+        int turns = 0;
+        nodesExpanded = 0;
+
+        while (!maze.isExit(row, col)) {
+            if (++nodesExpanded > budget) {
+                throw new IllegalStateException("No path found.");
+            }
+            Direction move;
+            if (turns == 0 && grid.isOpen(row, col, heading)) {
+                move = heading; // Free to go EAST
+            } else if (turns != 0 && grid.isOpen(row, col, heading.turnRight())) {
+                heading = heading.turnRight();
+                turns++;
+                sink.accept('R');
+                move = heading;
+            } else if (grid.isOpen(row, col, heading) && turns != 0) {
+                move = heading;
+            } else {
+                // Blocked: turn left so the wall ends up on the right hand
+                heading = heading.turnLeft();
+                turns--;
+                sink.accept('L');
+                continue;
+            }
+            sink.accept('F');
+            row += move == Direction.SOUTH ? 1 : move == Direction.NORTH ? -1 : 0;
+            col += move == Direction.EAST ? 1 : move == Direction.WEST ? -1 : 0;
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
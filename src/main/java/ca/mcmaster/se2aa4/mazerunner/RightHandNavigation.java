@@ -5,35 +5,39 @@ import java.util.List;
 
 /**
  * The MazeSolver class is responsible for solving a maze using the EAST-hand rule.
- * It navigates through the maze and keeps track of the path taken and the canonical output path.
+ * It navigates through the maze and keeps track of the canonical output path, and of every step when tracing is enabled.
  */
 public class RightHandNavigation implements MazeSolver {
     private final Maze maze;
     private Position currentPosition;
     private Direction currentDirection;
-    private final List<String> pathTaken;
     private final StringBuilder finalOutput;
-    private Position lastPosition;
-    private Direction lastDirection;
     private final List<MazeSolverObserver> observers = new ArrayList<>();
-    private final List<Position> path;
     private MazeNavigation navigationStrategy;
+    private SolverTrace trace; // Only allocated once tracing is enabled
+    private long stepsTaken;
+    private MoveSink moveSink; // Receives every logged move; the buffered finalOutput unless solve(MoveSink) supplies one
+    private SolverEventBus eventBus; // Only exists during a solve with observers registered
+    private int eventCapacity = 4096;
+    private SolverEventBus.OverflowPolicy overflowPolicy = SolverEventBus.OverflowPolicy.BLOCK;
 
     public RightHandNavigation(Maze maze) {
         this.maze = maze;
         this.currentPosition = new Position(maze.getEntryRow(), maze.getEntryCol());
         this.currentDirection = Direction.EAST; // Start facing EAST
-        this.pathTaken = new ArrayList<>(); 
         this.finalOutput = new StringBuilder(""); // Store the canonical path
-        this.lastPosition = null; 
-        this.lastDirection = null;
-        this.path = new ArrayList<>(); 
+        this.moveSink = finalOutput::append;
     }
 
-    // Factory method to handle initialization safely
+    // Factory method to handle initialization safely; walks with the factory's default strategy
     public static RightHandNavigation create(Maze maze) {
+        return create(maze, MazeNavigationFactory.DEFAULT_STRATEGY);
+    }
+
+    // Same as create(maze), with the strategy named as in MazeNavigationFactory.createStrategy
+    public static RightHandNavigation create(Maze maze, String strategyType) {
         RightHandNavigation solver = new RightHandNavigation(maze);
-        solver.navigationStrategy = MazeNavigationFactory.createStrategy(solver);
+        solver.navigationStrategy = MazeNavigationFactory.createStrategy(solver, strategyType);
         return solver;
     }
 
@@ -49,9 +53,15 @@ public class RightHandNavigation implements MazeSolver {
         observers.add(observer);
     }
 
-    private void notifyObservers(String message) {
-        for (MazeSolverObserver observer : observers) {
-            observer.update(message);
+    // Sizes the event ring and chooses what happens when observers fall behind; applies to the next solve
+    public void configureEvents(int capacity, SolverEventBus.OverflowPolicy policy) {
+        this.eventCapacity = capacity;
+        this.overflowPolicy = policy;
+    }
+
+    private void publish(SolverEvent.Type type) {
+        if (eventBus != null) {
+            eventBus.publish(type, currentPosition.getRow(), currentPosition.getCol(), currentDirection);
         }
     }
 
@@ -62,40 +72,98 @@ public class RightHandNavigation implements MazeSolver {
         return navigationStrategy;
     }
 
+    @Override
+    public void solve() {
+        solve(finalOutput::append);
+    }
+
     /**
-     * Solves the maze using the righthand rule. It returns a List of Positions representing the path from start to exit.
+     * Solves the maze using the righthand rule, feeding each move to sink as soon as it is taken.
      */
     @Override
-    public void solve() {
+    public void solve(MoveSink sink) {
+        this.moveSink = sink;
+        if (!observers.isEmpty()) {
+            eventBus = new SolverEventBus(observers, eventCapacity, overflowPolicy);
+        }
+        try {
+            walk();
+            publish(SolverEvent.Type.SOLVED);
+        } catch (RuntimeException e) {
+            publish(SolverEvent.Type.FAILED);
+            throw e;
+        } finally {
+            // Observers have seen every event by the time solve returns
+            if (eventBus != null) {
+                eventBus.close();
+                eventBus = null;
+            }
+        }
+    }
+
+    private void walk() {
+        int width = maze.getWidth();
+        // One bit per (cell, heading): the walk is deterministic, so coming back to a state means it goes in circles
+        long[] seen = new long[(int) (((long) maze.getHeight() * width * 4 + 63) >>> 6)];
         while (!hasReachedEnd()) {
+            long state = ((long) currentPosition.getRow() * width + currentPosition.getCol()) << 2 | currentDirection.ordinal();
+            int word = (int) (state >>> 6);
+            if ((seen[word] & (1L << state)) != 0) {
+                throw new IllegalStateException("No path found. The walk came back to " + currentPosition
+                        + " facing " + currentDirection + " without reaching the exit.");
+            }
+            seen[word] |= 1L << state;
             MazeNavigation strategy = getStrategy();
+            stepsTaken++; // Every branch below ends with exactly one forward move
             if (strategy.canMoveForward()) {
                 strategy.moveForward(); // Move forward if possible
-                notifyObservers("Moved forward.");
             } else if (strategy.canTurnAround()) {
                 strategy.turnAround(); // Turn around and move forward if needed
+                publish(SolverEvent.Type.TURN);
                 strategy.moveForward();
-                notifyObservers("Turned around and moved forward.");
             } else if (strategy.canTurnRight()) {
                 strategy.turnRight(); // Turn right and move forward if needed
+                publish(SolverEvent.Type.TURN);
                 strategy.moveForward();
-                notifyObservers("Turned right and moved forward.");
             } else if (strategy.canTurnLeft()) {
                 strategy.turnLeft(); // Turn left and move forward if needed
+                publish(SolverEvent.Type.TURN);
                 strategy.moveForward();
-                notifyObservers("Turned left and moved forward.");
             } else {
                 throw new IllegalStateException("No path found.");
             }
+            publish(SolverEvent.Type.MOVE);
         }
-        notifyObservers("Maze successfully solved!");
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return stepsTaken;
     }
 
     public Maze getMaze() {
         return this.maze;
     }
 
+    // Opt-in step tracing; without it logStep only forwards the move
+    public void enableTrace() {
+        if (trace == null) {
+            trace = new SolverTrace(maze.getWidth());
+        }
+    }
+
+    public SolverTrace getTrace() {
+        return trace;
+    }
+
+    // Describes every traced step; empty unless tracing was enabled before solving
     public List<String> getPathTaken() {
+        List<String> pathTaken = new ArrayList<>();
+        if (trace != null) {
+            for (int step = 0; step < trace.size(); step++) {
+                pathTaken.add(trace.describe(step));
+            }
+        }
         return pathTaken;
     }
 
@@ -137,17 +205,14 @@ public class RightHandNavigation implements MazeSolver {
     }
 
     /**
-     * Logs the current step and adds the position to the path list.
+     * Logs the current step, and records it in the trace when tracing is enabled.
      */
     public void logStep(String action) {
-        if (lastPosition != null && lastPosition.equals(currentPosition) && lastDirection == currentDirection) {
-            return;
+        if (trace != null) {
+            trace.record(currentPosition.getRow(), currentPosition.getCol(), action);
+        }
+        for (int i = 0; i < action.length(); i++) {
+            moveSink.accept(action.charAt(i));
         }
-
-        lastPosition = new Position(currentPosition.getRow(), currentPosition.getCol());
-        lastDirection = currentDirection;
-        pathTaken.add("Position: (" + currentPosition.getRow() + ", " + currentPosition.getCol() + "), Direction: " + action);
-        finalOutput.append(action); 
-        path.add(new Position(currentPosition.getRow(), currentPosition.getCol())); 
     }
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Remembers factorized paths by maze content and algorithm, so a maze solved once is never solved again.
+ * Lookups go through an in-memory LRU tier first, then an append-only file on disk. The file is memory-mapped
+ * and indexed when the cache opens. Once it would grow past maxBytes, it is rewritten with the most recently
+ * used entries only, keeping half the budget. All methods are synchronized, so batch workers can share one cache.
+ */
+public class SolutionCache implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger();
+    private static final int MAGIC = 0x4D5A4331; // "MZC1"
+    // hash, height, width, entry row and column, exit row and column, algorithm length, path length
+    private static final int RECORD_HEADER = Long.BYTES + 8 * Integer.BYTES;
+
+    /**
+     * A maze is identified by its content hash and size, which makes accidental collisions negligible, and by its
+     * entry and exit, which a binary maze may place on any opening of the same walls.
+     */
+    public record Key(long hash, int height, int width, int entryRow, int entryCol, int exitRow, int exitCol,
+            String algorithm) {}
+
+    private record Location(long offset, int length) {}
+
+    private final Path file;
+    private final long maxBytes;
+    private final Map<Key, String> memory;
+    private final LinkedHashMap<Key, Location> index = new LinkedHashMap<>(64, 0.75f, true);
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long fileSize;
+    private long hits;
+    private long misses;
+
+    public SolutionCache(Path file, long maxBytes, int memoryEntries) throws IOException {
+        if (maxBytes <= RECORD_HEADER || maxBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cache size must be between " + RECORD_HEADER + " bytes and 2 GB.");
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.memory = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+        open();
+    }
+
+    // Method names are matched without regard to case, like MazeNavigationFactory does, so "BFS" and "bfs" share entries
+    public static Key keyOf(Maze maze, String algorithm) {
+        return new Key(maze.getWallGrid().contentHash(), maze.getHeight(), maze.getWidth(),
+                maze.getEntryRow(), maze.getEntryCol(), maze.getExitRow(), maze.getExitCol(),
+                algorithm.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the cached path of the maze, or solves it with a MazeRunner and caches the answer.
+     * Dead-end filling is part of the key, since it may change which of several shortest paths is found.
+     */
+    public String solve(Maze maze, String algorithmType, boolean fillDeadEnds) throws Exception {
+        Key key = keyOf(maze, fillDeadEnds ? algorithmType + "+dead-ends" : algorithmType);
+        String cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Solve outside the lock; two threads missing on the same maze both solve it, but only one record is kept
+        String path = new MazeRunner(fillDeadEnds ? DeadEndFiller.prune(maze) : maze, algorithmType).solveMaze();
+        put(key, path);
+        return path;
+    }
+
+    public synchronized String get(Key key) throws IOException {
+        String path = memory.get(key);
+        // Also on memory hits, so the access order that drives compaction sees the hottest entries
+        Location location = index.get(key);
+        if (path == null) {
+            if (location != null) {
+                path = new String(read(location), StandardCharsets.UTF_8);
+                memory.put(key, path);
+            }
+        }
+        if (path == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return path;
+    }
+
+    public synchronized void put(Key key, String path) throws IOException {
+        memory.put(key, path);
+        if (index.containsKey(key)) {
+            return;
+        }
+        byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = encode(key, bytes);
+        int size = record.remaining();
+        if (size > maxBytes / 2) {
+            return; // Would not survive the next compaction anyway
+        }
+        if (fileSize + size > maxBytes) {
+            compact();
+        }
+        long start = fileSize;
+        long offset = start;
+        while (record.hasRemaining()) {
+            offset += channel.write(record, offset);
+        }
+        index.put(key, new Location(start + size - bytes.length, bytes.length));
+        fileSize = offset;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        logger.info("Solution cache closed: {} hits, {} misses, {} entries on disk", hits, misses, index.size());
+        channel.close();
+        mapped = null;
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        fileSize = channel.size();
+        if (fileSize < Integer.BYTES) {
+            channel.truncate(0);
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC), 0);
+            fileSize = Integer.BYTES;
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        if (mapped.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a solution cache.");
+        }
+        index.clear();
+        long valid = scan();
+        if (valid < fileSize) {
+            // A record was cut short, e.g. by a crash while appending; drop it
+            logger.warn("Dropping {} bytes of incomplete records from {}", fileSize - valid, file);
+            channel.truncate(valid);
+            fileSize = valid;
+        }
+        logger.info("Solution cache {} opened with {} entries", file, index.size());
+    }
+
+    // Indexes every complete record of the mapped file and returns where the last one ends
+    private long scan() {
+        int position = Integer.BYTES;
+        int limit = mapped.limit();
+        while (position + RECORD_HEADER <= limit) {
+            long hash = mapped.getLong(position);
+            int height = mapped.getInt(position + 8);
+            int width = mapped.getInt(position + 12);
+            int entryRow = mapped.getInt(position + 16);
+            int entryCol = mapped.getInt(position + 20);
+            int exitRow = mapped.getInt(position + 24);
+            int exitCol = mapped.getInt(position + 28);
+            int algorithmLength = mapped.getInt(position + 32);
+            int pathLength = mapped.getInt(position + 36);
+            long end = (long) position + RECORD_HEADER + algorithmLength + pathLength;
+            if (algorithmLength < 0 || pathLength < 0 || end > limit) {
+                break;
+            }
+            byte[] algorithm = new byte[algorithmLength];
+            mapped.get(position + RECORD_HEADER, algorithm);
+            Key key = new Key(hash, height, width, entryRow, entryCol, exitRow, exitCol,
+                    new String(algorithm, StandardCharsets.UTF_8));
+            index.put(key, new Location(position + RECORD_HEADER + algorithmLength, pathLength));
+            position = (int) end;
+        }
+        return position;
+    }
+
+    private byte[] read(Location location) throws IOException {
+        byte[] bytes = new byte[location.length()];
+        if (location.offset() + location.length() <= mapped.limit()) {
+            mapped.get((int) location.offset(), bytes);
+            return bytes;
+        }
+        // Appended after the file was mapped
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = location.offset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Solution cache " + file + " was truncated.");
+            }
+            position += read;
+        }
+        return bytes;
+    }
+
+    // Rewrites the file with the most recently used entries that fit in half the budget
+    private void compact() throws IOException {
+        List<Map.Entry<Key, Location>> entries = new ArrayList<>(index.entrySet());
+        List<ByteBuffer> kept = new ArrayList<>();
+        long written = Integer.BYTES;
+        // Access order runs from least to most recently used, so pick survivors from the end
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            ByteBuffer record = encode(entries.get(i).getKey(), read(entries.get(i).getValue()));
+            if (written + record.remaining() > maxBytes / 2) {
+                break;
+            }
+            kept.add(record);
+            written += record.remaining();
+        }
+
+        Path rewritten = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(rewritten, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC));
+            // Written back oldest first, so the reopened index keeps the same recency order
+            for (int i = kept.size() - 1; i >= 0; i--) {
+                ByteBuffer record = kept.get(i);
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+        }
+        channel.close();
+        Files.move(rewritten, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Solution cache compacted: kept {} of {} entries", kept.size(), entries.size());
+        open();
+    }
+
+    private static ByteBuffer encode(Key key, byte[] path) {
+        byte[] algorithm = key.algorithm().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + algorithm.length + path.length);
+        record.putLong(key.hash()).putInt(key.height()).putInt(key.width())
+                .putInt(key.entryRow()).putInt(key.entryCol()).putInt(key.exitRow()).putInt(key.exitCol())
+                .putInt(algorithm.length).putInt(path.length).put(algorithm).put(path);
+        return record.flip();
+    }
+}
@@ -0,0 +1,126 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counters for one run: parse, solve and encode time, the steps and turnarounds in the solver's moves, the cells
+ * it visited, the longest path it held, and the bytes the running thread allocated. The sink from wrap() counts
+ * each move on its way to the encoder and never reads the clock per move, so encodeNanos is the final flush of
+ * the encoder and the streaming work it does while the solver runs is part of solveNanos.
+ */
+public class SolveMetrics {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final long allocatedAtStart = currentThreadAllocatedBytes();
+    private long parseNanos;
+    private long solveNanos;
+    private long encodeNanos;
+    private long steps;
+    private long cellsVisited;
+    private long turnarounds;
+    private long peakPathLength;
+    private long allocatedBytes = -1;
+
+    @FunctionalInterface
+    public interface Phase<T> {
+        T run() throws Exception;
+    }
+
+    // Runs phase, usually a MazeFileReader call, and records how long it took
+    public <T> T timeParse(Phase<T> phase) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return phase.run();
+        } finally {
+            parseNanos += System.nanoTime() - start;
+        }
+    }
+
+    // Counts the moves a solver emits and forwards them to downstream, timing its final flush
+    MoveSink wrap(MoveSink downstream) {
+        return new Counter(downstream);
+    }
+
+    // Called by MazeRunner once the solve is over; elapsed covers solving and encoding together
+    void recordSolve(long elapsedNanos, long nodesExpanded, long peakPathLength) {
+        this.solveNanos = Math.max(0, elapsedNanos - encodeNanos);
+        this.cellsVisited = nodesExpanded;
+        this.peakPathLength = peakPathLength;
+        long allocatedNow = currentThreadAllocatedBytes();
+        this.allocatedBytes = allocatedAtStart < 0 || allocatedNow < 0 ? -1 : allocatedNow - allocatedAtStart;
+    }
+
+    public long getParseNanos() { return parseNanos; }
+    public long getSolveNanos() { return solveNanos; }
+    public long getEncodeNanos() { return encodeNanos; }
+    public long getSteps() { return steps; }
+    public long getCellsVisited() { return cellsVisited; }
+    public long getTurnarounds() { return turnarounds; }
+    public long getPeakPathLength() { return peakPathLength; }
+
+    // -1 when the JVM has no per-thread allocation counter, or on a virtual thread, which it does not track
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    public String toJson() {
+        return "{\"parseNanos\":" + parseNanos
+                + ",\"solveNanos\":" + solveNanos
+                + ",\"encodeNanos\":" + encodeNanos
+                + ",\"steps\":" + steps
+                + ",\"cellsVisited\":" + cellsVisited
+                + ",\"turnarounds\":" + turnarounds
+                + ",\"peakPathLength\":" + peakPathLength
+                + ",\"allocatedBytes\":" + allocatedBytes + "}";
+    }
+
+    static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    // Allocation by every thread since the JVM started, or -1; virtual threads are counted through their carriers
+    static long totalAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getTotalThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private final class Counter implements MoveSink {
+        private final MoveSink downstream;
+        private long forward;
+        private long uTurns;
+        private char lastTurn;
+
+        Counter(MoveSink downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void accept(char move) {
+            if (move == 'F') {
+                forward++;
+                lastTurn = 0;
+            } else if (move == lastTurn) {
+                uTurns++; // Two turns the same way in a row face the walker back where it came from
+                lastTurn = 0;
+            } else {
+                lastTurn = move;
+            }
+            downstream.accept(move);
+        }
+
+        @Override
+        public void finish() {
+            steps += forward;
+            turnarounds += uTurns;
+            long start = System.nanoTime();
+            downstream.finish();
+            encodeNanos += System.nanoTime() - start;
+        }
+    }
+}
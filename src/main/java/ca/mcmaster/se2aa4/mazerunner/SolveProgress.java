@@ -0,0 +1,81 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Counts the moves of a running solve so that SolverProgressEvent can report it at every period. MazeRunner only
+ * puts one in the pipeline while MazeSolveEvent is enabled, so without a recording solves do not pay for it,
+ * and this class is never loaded.
+ */
+public class SolveProgress implements MoveSink {
+    private static final Set<SolveProgress> ACTIVE = ConcurrentHashMap.newKeySet();
+
+    static {
+        FlightRecorder.addPeriodicEvent(SolverProgressEvent.class, SolveProgress::emitAll);
+    }
+
+    private final MoveSink downstream;
+    private final String algorithm;
+    private final int height;
+    private final int width;
+    private final long start = System.nanoTime();
+    // Written by the solving thread only, so incrementing is safe; volatile lets the periodic hook see whole values
+    private volatile long moves;
+    private volatile long steps;
+
+    private SolveProgress(MoveSink downstream, String algorithm, Maze maze) {
+        this.downstream = downstream;
+        this.algorithm = algorithm;
+        this.height = maze.getHeight();
+        this.width = maze.getWidth();
+    }
+
+    public static SolveProgress start(MoveSink downstream, String algorithm, Maze maze) {
+        SolveProgress progress = new SolveProgress(downstream, algorithm, maze);
+        ACTIVE.add(progress);
+        return progress;
+    }
+
+    public void stop() {
+        ACTIVE.remove(this);
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    @Override
+    public void accept(char move) {
+        moves++;
+        if (move == 'F') {
+            steps++;
+        }
+        downstream.accept(move);
+    }
+
+    @Override
+    public void finish() {
+        downstream.finish();
+    }
+
+    private static void emitAll() {
+        long now = System.nanoTime();
+        for (SolveProgress progress : ACTIVE) {
+            SolverProgressEvent event = new SolverProgressEvent();
+            event.algorithm = progress.algorithm;
+            event.height = progress.height;
+            event.width = progress.width;
+            event.elapsed = now - progress.start;
+            event.moves = progress.moves;
+            event.steps = progress.steps;
+            event.commit();
+        }
+    }
+}
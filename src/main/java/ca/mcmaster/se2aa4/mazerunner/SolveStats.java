@@ -0,0 +1,104 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Running totals of the SolveMetrics of a batch or a server, published as an MBean under
+ * ca.mcmaster.se2aa4.mazerunner:type=SolveStats,name=NAME for jconsole and other JMX clients.
+ * Solves run on virtual threads, which have no allocation counter of their own, so AllocatedBytes is
+ * the allocation of the whole JVM since the stats were registered.
+ */
+public class SolveStats implements SolveStatsMBean, AutoCloseable {
+    private static final Logger logger = LogManager.getLogger();
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder solveNanos = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder steps = new LongAdder();
+    private final LongAdder cellsVisited = new LongAdder();
+    private final LongAdder turnarounds = new LongAdder();
+    private final LongAccumulator peakPathLength = new LongAccumulator(Math::max, 0);
+    private final long allocatedAtStart = SolveMetrics.totalAllocatedBytes();
+    private ObjectName name;
+
+    // Registers new stats with the platform MBean server, replacing any stats left under the same name
+    public static SolveStats register(String name) {
+        SolveStats stats = new SolveStats();
+        try {
+            ObjectName objectName = new ObjectName("ca.mcmaster.se2aa4.mazerunner:type=SolveStats,name=" + name);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            synchronized (SolveStats.class) {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+                server.registerMBean(stats, objectName);
+            }
+            stats.name = objectName;
+        } catch (JMException e) {
+            // The counters still work without JMX
+            logger.warn("Could not register solve stats {}: {}", name, e.getMessage());
+        }
+        return stats;
+    }
+
+    public void record(SolveMetrics metrics) {
+        runs.increment();
+        parseNanos.add(metrics.getParseNanos());
+        solveNanos.add(metrics.getSolveNanos());
+        encodeNanos.add(metrics.getEncodeNanos());
+        steps.add(metrics.getSteps());
+        cellsVisited.add(metrics.getCellsVisited());
+        turnarounds.add(metrics.getTurnarounds());
+        peakPathLength.accumulate(metrics.getPeakPathLength());
+    }
+
+    public void recordFailure(SolveMetrics metrics) {
+        failures.increment();
+        record(metrics);
+    }
+
+    @Override public long getRuns() { return runs.sum(); }
+    @Override public long getFailures() { return failures.sum(); }
+    @Override public long getParseNanos() { return parseNanos.sum(); }
+    @Override public long getSolveNanos() { return solveNanos.sum(); }
+    @Override public long getEncodeNanos() { return encodeNanos.sum(); }
+    @Override public long getSteps() { return steps.sum(); }
+    @Override public long getCellsVisited() { return cellsVisited.sum(); }
+    @Override public long getTurnarounds() { return turnarounds.sum(); }
+    @Override public long getPeakPathLength() { return peakPathLength.get(); }
+
+    @Override
+    public long getAllocatedBytes() {
+        long now = SolveMetrics.totalAllocatedBytes();
+        return allocatedAtStart < 0 || now < 0 ? -1 : now - allocatedAtStart;
+    }
+
+    @Override
+    public void close() {
+        if (name == null) {
+            return;
+        }
+        try {
+            synchronized (SolveStats.class) {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            }
+        } catch (JMException e) {
+            logger.warn("Could not unregister solve stats {}: {}", name, e.getMessage());
+        }
+        name = null;
+    }
+}
@@ -0,0 +1,17 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * JMX view of SolveStats. Times are in nanoseconds and summed over every run, like the counts.
+ */
+public interface SolveStatsMBean {
+    long getRuns();
+    long getFailures();
+    long getParseNanos();
+    long getSolveNanos();
+    long getEncodeNanos();
+    long getSteps();
+    long getCellsVisited();
+    long getTurnarounds();
+    long getPeakPathLength();
+    long getAllocatedBytes();
+}
@@ -0,0 +1,23 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * Something a solver did: the cell it is on and the direction it faces once the event happened.
+ */
+public record SolverEvent(Type type, int row, int col, Direction direction) {
+
+    public enum Type {
+        MOVE,
+        TURN,
+        SOLVED,
+        FAILED
+    }
+
+    public String describe() {
+        return switch (type) {
+            case MOVE -> "Moved forward to (" + row + ", " + col + ") facing " + direction + ".";
+            case TURN -> "Turned to face " + direction + " at (" + row + ", " + col + ").";
+            case SOLVED -> "Maze successfully solved!";
+            case FAILED -> "No path found from (" + row + ", " + col + ") facing " + direction + ".";
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Hands solver events from the solver thread to observers running on a separate consumer thread.
+ * Events are written as primitives into a bounded single-producer ring buffer and drained in batches, so a slow
+ * observer delays only the consumer. When the ring is full, the overflow policy decides what the solver does.
+ */
+public class SolverEventBus implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final SolverEvent.Type[] TYPES = SolverEvent.Type.values();
+    private static final int MAX_BATCH = 256;
+    private static final int SAMPLE_INTERVAL = 16;
+    private static final long IDLE_PARK_NANOS = 100_000;
+    private static final int BLOCK_SPINS = 100;
+
+    public enum OverflowPolicy {
+        // Wait for the consumer to free a slot, spinning briefly and then parking; no event is lost
+        BLOCK,
+        // Discard move and turn events that do not fit
+        DROP,
+        // Keep one move or turn event in SAMPLE_INTERVAL once the ring is half full, and drop when it is full
+        SAMPLE
+    }
+
+    private final List<MazeSolverObserver> observers;
+    private final OverflowPolicy policy;
+    private final int capacity;
+    private final byte[] types;
+    private final int[] rows;
+    private final int[] cols;
+    private final byte[] directions;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final Thread consumer;
+    private volatile boolean closed;
+    private volatile Thread blockedProducer;
+    private long nextSlot;
+    private long dropped;
+    private long sampleCounter;
+
+    public SolverEventBus(List<MazeSolverObserver> observers, int capacity, OverflowPolicy policy) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Event bus capacity must be at least 2.");
+        }
+        this.observers = List.copyOf(observers);
+        this.policy = policy;
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.types = new byte[this.capacity];
+        this.rows = new int[this.capacity];
+        this.cols = new int[this.capacity];
+        this.directions = new byte[this.capacity];
+        this.consumer = Thread.ofPlatform().daemon().name("maze-solver-events").start(this::drain);
+    }
+
+    // Only ever called from the solver thread
+    public void publish(SolverEvent.Type type, int row, int col, Direction direction) {
+        boolean terminal = type == SolverEvent.Type.SOLVED || type == SolverEvent.Type.FAILED;
+        long used = nextSlot - consumed.get();
+        if (!terminal && policy == OverflowPolicy.SAMPLE && used >= capacity / 2
+                && sampleCounter++ % SAMPLE_INTERVAL != 0) {
+            dropped++;
+            return;
+        }
+        if (used >= capacity) {
+            if (!terminal && policy != OverflowPolicy.BLOCK) {
+                dropped++;
+                return;
+            }
+            awaitFreeSlot();
+        }
+        int index = (int) nextSlot & (capacity - 1);
+        types[index] = (byte) type.ordinal();
+        rows[index] = row;
+        cols[index] = col;
+        directions[index] = (byte) direction.ordinal();
+        nextSlot++;
+        published.lazySet(nextSlot);
+    }
+
+    // Spins for a short while, then parks until the consumer has drained a batch
+    private void awaitFreeSlot() {
+        LockSupport.unpark(consumer);
+        for (int spins = 0; nextSlot - consumed.get() >= capacity; spins++) {
+            if (spins < BLOCK_SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            blockedProducer = Thread.currentThread();
+            // Looked at again after announcing the wait, so a batch freed in between is not missed
+            if (nextSlot - consumed.get() >= capacity) {
+                LockSupport.park(this);
+            }
+            blockedProducer = null;
+        }
+    }
+
+    // Move and turn events discarded by the DROP or SAMPLE policy so far
+    public long getDroppedEvents() {
+        return dropped;
+    }
+
+    // Delivers every published event, then stops the consumer thread
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<SolverEvent> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            long start = consumed.get();
+            long end = published.get();
+            if (start == end) {
+                if (closed) {
+                    // closed is written after the last publish, so one more look at published is enough
+                    if (published.get() == start) {
+                        return;
+                    }
+                    continue;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            long limit = Math.min(end, start + MAX_BATCH);
+            for (long slot = start; slot < limit; slot++) {
+                int index = (int) slot & (capacity - 1);
+                batch.add(new SolverEvent(TYPES[types[index]], rows[index], cols[index], DIRECTIONS[directions[index]]));
+            }
+            // Free the slots before dispatching so the solver never waits on the observers themselves
+            // A full write, so the producer either sees the free slots or is seen as blocked and woken here
+            consumed.set(limit);
+            Thread producer = blockedProducer;
+            if (producer != null) {
+                LockSupport.unpark(producer);
+            }
+            for (SolverEvent event : batch) {
+                for (MazeSolverObserver observer : observers) {
+                    try {
+                        observer.update(event);
+                    } catch (RuntimeException e) {
+                        logger.warn("Observer {} failed on {}.", observer.getClass().getSimpleName(), event, e);
+                    }
+                }
+            }
+            batch.clear();
+        }
+    }
+}
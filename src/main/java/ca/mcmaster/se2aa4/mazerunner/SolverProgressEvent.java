@@ -0,0 +1,40 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Periodic Flight Recorder event, one per solve still running when the period ends. See SolveProgress.
+ */
+@Name("ca.mcmaster.se2aa4.mazerunner.SolverProgress")
+@Label("Solver Progress")
+@Category("Maze Runner")
+@Description("Moves emitted so far by a solve that is still running")
+@Period("1 s")
+@StackTrace(false)
+public class SolverProgressEvent extends jdk.jfr.Event {
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Moves")
+    @Description("Moves emitted so far; search solvers emit theirs only once the search is over")
+    long moves;
+
+    @Label("Steps")
+    long steps;
+}
@@ -0,0 +1,69 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Compact step trace of a solver: the cell index (row * width + col) after each logged action, and the
+ * action itself as one byte. Nothing is allocated per step beyond amortised growth of the two arrays.
+ */
+public class SolverTrace {
+    private static final byte FORWARD = 0;
+    private static final byte LEFT = 1;
+    private static final byte RIGHT = 2;
+    private static final byte TURN_AROUND = 3;
+    private static final String[] ACTIONS = {"F", "L", "R", "RR"};
+
+    private final int width;
+    private final IntList cells = new IntList(1024);
+    private byte[] actions = new byte[1024];
+
+    public SolverTrace(int width) {
+        this.width = width;
+    }
+
+    // Records an action logged by the solver: "F", "L", "R" or "RR"
+    public void record(int row, int col, String action) {
+        int index = cells.size();
+        if (index == actions.length) {
+            actions = Arrays.copyOf(actions, index * 2);
+        }
+        actions[index] = switch (action) {
+            case "F" -> FORWARD;
+            case "L" -> LEFT;
+            case "R" -> RIGHT;
+            case "RR" -> TURN_AROUND;
+            default -> throw new IllegalArgumentException("Unknown action: " + action);
+        };
+        cells.add(row * width + col);
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    public int getRow(int step) {
+        return cells.get(step) / width;
+    }
+
+    public int getCol(int step) {
+        return cells.get(step) % width;
+    }
+
+    public String getAction(int step) {
+        return ACTIONS[actions[step]];
+    }
+
+    // Human-readable form of one step, as RightHandNavigation.getPathTaken() reports it
+    public String describe(int step) {
+        return "Position: (" + getRow(step) + ", " + getCol(step) + "), Direction: " + getAction(step);
+    }
+
+    public void writeTo(Writer out) throws IOException {
+        for (int step = 0; step < size(); step++) {
+            out.write(describe(step));
+            out.write(System.lineSeparator());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Incremental version of Encoder: moves are fed one at a time and only the current run is kept, so a path is
+ * factorized while it is being produced. Tokens are written to the Appendable as soon as their run ends.
+ */
+public class StreamingEncoder implements MoveSink {
+    private final Appendable out;
+    private final char[] digits = new char[20];
+    private char current;
+    private long runLength;
+    private boolean hasOutput;
+
+    public StreamingEncoder(Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(char move) {
+        if (Character.isWhitespace(move)) {
+            return;
+        }
+        if (runLength > 0 && move == current) {
+            runLength++;
+        } else {
+            flushRun();
+            current = move;
+            runLength = 1;
+        }
+    }
+
+    @Override
+    public void finish() {
+        flushRun();
+    }
+
+    // Whether any token has been written, i.e. whether the path was non-empty
+    public boolean hasOutput() {
+        return hasOutput;
+    }
+
+    private void flushRun() {
+        if (runLength == 0) {
+            return;
+        }
+        try {
+            if (hasOutput) {
+                out.append(' ');
+            }
+            if (runLength > 1) {
+                appendCount(runLength);
+            }
+            out.append(Character.toUpperCase(current));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        hasOutput = true;
+        runLength = 0;
+    }
+
+    private void appendCount(long count) throws IOException {
+        int start = digits.length;
+        do {
+            digits[--start] = (char) ('0' + count % 10);
+            count /= 10;
+        } while (count > 0);
+        for (int i = start; i < digits.length; i++) {
+            out.append(digits[i]);
+        }
+    }
+}
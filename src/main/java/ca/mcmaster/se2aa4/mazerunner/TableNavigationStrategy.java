@@ -0,0 +1,197 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * Table-driven version of DefaultMazeNavigationStrategy. The four neighbours of the current cell are read once
+ * and packed into a code (open, wall or outside the maze for each), and the action for that code and the current
+ * heading comes from a table built by running the default strategy's rules on every possible code. The paths are
+ * therefore the same as the default strategy's, quirks included: the walker may step into walls, and the default
+ * rules read past the border in a few cases, which ends the walk with an IndexOutOfBoundsException here too.
+ * The position is kept as a cell index and written into the solver's Position in place.
+ */
+public class TableNavigationStrategy implements MazeNavigation {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Neighbour codes, two bits each, packed as north << 6 | east << 4 | south << 2 | west
+    private static final int OPEN = 0;
+    private static final int WALL = 1;
+    private static final int OUTSIDE = 2;
+
+    private static final byte FORWARD = 0;
+    private static final byte TURN_AROUND = 1;
+    private static final byte TURN_RIGHT = 2;
+    private static final byte TURN_LEFT = 3;
+    private static final byte STUCK = 4;
+    private static final byte OUT_OF_BOUNDS = 5;
+
+    // Indexed by neighbour code << 2 | heading ordinal
+    private static final byte[] ACTIONS = new byte[256 * 4];
+
+    static {
+        for (int code = 0; code < 256; code++) {
+            for (int heading = 0; heading < 4; heading++) {
+                ACTIONS[code << 2 | heading] = decide(code, heading);
+            }
+        }
+    }
+
+    private final RightHandNavigation mazeSolver;
+    private final long[] words;
+    private final int wordsPerRow;
+    private final int width;
+    private final int height;
+    private Position position; // The solver's Position, updated in place
+    private int cell;
+    private int row; // Kept next to cell so stepping never divides
+    private int col;
+    private int decidedCell = -1;
+    private int decidedHeading = -1;
+    private byte action;
+
+    public TableNavigationStrategy(RightHandNavigation mazeSolver) {
+        this.mazeSolver = mazeSolver;
+        WallGrid grid = mazeSolver.getMaze().getWallGrid();
+        this.words = grid.getWords();
+        this.wordsPerRow = grid.getWordsPerRow();
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+    }
+
+    @Override
+    public boolean canMoveForward() {
+        return decide() == FORWARD;
+    }
+
+    @Override
+    public boolean canTurnAround() {
+        return decide() == TURN_AROUND;
+    }
+
+    @Override
+    public boolean canTurnRight() {
+        return decide() == TURN_RIGHT;
+    }
+
+    @Override
+    public boolean canTurnLeft() {
+        return decide() == TURN_LEFT;
+    }
+
+    @Override
+    public void moveForward() {
+        syncPosition();
+        int nextRow = row;
+        int nextCol = col;
+        switch (mazeSolver.getCurrentDirection()) {
+            case NORTH -> nextRow--;
+            case EAST -> nextCol++;
+            case SOUTH -> nextRow++;
+            case WEST -> nextCol--;
+        }
+        boolean inside = nextRow >= 0 && nextRow < height && nextCol >= 0 && nextCol < width;
+        if (inside) {
+            row = nextRow;
+            col = nextCol;
+            cell = row * width + col;
+            position.setRow(row);
+            position.setCol(col);
+        } else {
+            // The default strategy has no next position past the border either
+            position = null;
+            mazeSolver.setCurrentPosition(null);
+        }
+        mazeSolver.logStep("F");
+    }
+
+    @Override
+    public void turnAround() {
+        turn(2, "RR");
+    }
+
+    @Override
+    public void turnRight() {
+        turn(1, "R");
+    }
+
+    @Override
+    public void turnLeft() {
+        turn(3, "L");
+    }
+
+    private void turn(int quarterTurns, String step) {
+        mazeSolver.setCurrentDirection(DIRECTIONS[(mazeSolver.getCurrentDirection().ordinal() + quarterTurns) & 3]);
+        mazeSolver.logStep(step);
+    }
+
+    // Looks the action up once per cell and heading; the four can* calls of a step share it
+    private byte decide() {
+        syncPosition();
+        int heading = mazeSolver.getCurrentDirection().ordinal();
+        if (cell != decidedCell || heading != decidedHeading) {
+            action = ACTIONS[neighbourCode() << 2 | heading];
+            decidedCell = cell;
+            decidedHeading = heading;
+        }
+        if (action == OUT_OF_BOUNDS) {
+            throw new IndexOutOfBoundsException("The right-hand rule looked outside the maze from " + position);
+        }
+        return action;
+    }
+
+    // Picks up the solver's Position, unless it is the one this strategy already tracks
+    private void syncPosition() {
+        Position current = mazeSolver.getCurrentPosition();
+        if (current != position) {
+            position = current;
+            row = current.getRow();
+            col = current.getCol();
+            cell = row * width + col;
+        }
+    }
+
+    // Wall bits come straight from the packed words; a set bit is WALL, which is also code 1
+    private int neighbourCode() {
+        int index = row * wordsPerRow + (col >>> 6);
+        int shift = col & 63;
+        int north = row > 0 ? (int) (words[index - wordsPerRow] >>> shift) & 1 : OUTSIDE;
+        int south = row < height - 1 ? (int) (words[index + wordsPerRow] >>> shift) & 1 : OUTSIDE;
+        int east = col < width - 1 ? (int) (words[(col + 1 & 63) == 0 ? index + 1 : index] >>> (col + 1 & 63)) & 1 : OUTSIDE;
+        int west = col > 0 ? (int) (words[shift == 0 ? index - 1 : index] >>> (col - 1 & 63)) & 1 : OUTSIDE;
+        return north << 6 | east << 4 | south << 2 | west;
+    }
+
+    /**
+     * Runs the rules of DefaultMazeNavigationStrategy, in the order RightHandNavigation asks them, on one neighbour
+     * code. Its bounds checks become "not OUTSIDE"; a neighbour it reads without a bounds check may be OUTSIDE,
+     * which is where the default strategy fails on an index, so the action is OUT_OF_BOUNDS.
+     */
+    private static byte decide(int code, int heading) {
+        // Neighbours by heading ordinal: north, east, south, west
+        int[] around = {code >>> 6 & 3, code >>> 4 & 3, code >>> 2 & 3, code & 3};
+        int ahead = around[heading];
+        int right = around[(heading + 1) & 3];
+        int left = around[(heading + 3) & 3];
+
+        // canMoveForward: open ahead, then an unchecked read of the cell to the right
+        if (ahead == OPEN) {
+            if (right == OUTSIDE) {
+                return OUT_OF_BOUNDS;
+            }
+            if (right == WALL) {
+                return FORWARD;
+            }
+        }
+        // canTurnAround: walls ahead and on both sides
+        if (ahead == WALL && left == WALL && right == WALL) {
+            return TURN_AROUND;
+        }
+        // canTurnRight: open on the right
+        if (right == OPEN) {
+            return TURN_RIGHT;
+        }
+        // canTurnLeft: walls ahead and on the right, except when heading NORTH, which checks ahead and on the left
+        if (heading == Direction.NORTH.ordinal() ? left == WALL && ahead == WALL : right == WALL && ahead == WALL) {
+            return TURN_LEFT;
+        }
+        return STUCK;
+    }
+}
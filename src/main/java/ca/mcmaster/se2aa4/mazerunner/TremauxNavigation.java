@@ -0,0 +1,100 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * Trémaux's algorithm on cells: walk into unmarked cells, marking each once, and when none is left mark the
+ * current cell a second time and step back the way it was entered. Cells marked once when the exit is reached
+ * form the path, so loops cost nothing beyond one byte per cell: the mark count, the direction back towards
+ * the entry, and, once the path is known, the direction onwards to the exit.
+ */
+public class TremauxNavigation implements MazeSolver {
+    private static final int MARKS = 0x3;       // 0 unvisited, 1 on the current path, 2 dead end
+    private static final int BACK_SHIFT = 2;    // Direction ordinal + 1 towards the entry, 0 at the entry
+    private static final int FORWARD_SHIFT = 5; // Direction ordinal + 1 towards the exit, set once solved
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // Neighbours are tried east first, as the exit is always on the east side
+    private static final Direction[] PREFERENCE = {Direction.EAST, Direction.SOUTH, Direction.NORTH, Direction.WEST};
+
+    private final Maze maze;
+    private final StringBuilder finalOutput;
+    private long nodesExpanded;
+
+    public TremauxNavigation(Maze maze) {
+        this.maze = maze;
+        this.finalOutput = new StringBuilder();
+    }
+
+    @Override
+    public void solve() {
+        finalOutput.setLength(0);
+        solve(finalOutput::append);
+    }
+
+    @Override
+    public void solve(MoveSink sink) {
+        WallGrid grid = maze.getWallGrid();
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int entry = maze.getEntryRow() * width + maze.getEntryCol();
+        int exit = maze.getExitRow() * width + maze.getExitCol();
+        byte[] marks = new byte[Math.multiplyExact(width, height)];
+        int[] steps = {-width, 1, width, -1};
+
+        marks[entry] = 1;
+        int cell = entry;
+        int row = maze.getEntryRow();
+        int col = maze.getEntryCol();
+        nodesExpanded = 0;
+        while (cell != exit) {
+            nodesExpanded++;
+            Direction next = null;
+            for (Direction direction : PREFERENCE) {
+                if (grid.isOpen(row, col, direction) && (marks[cell + steps[direction.ordinal()]] & MARKS) == 0) {
+                    next = direction;
+                    break;
+                }
+            }
+            if (next == null) {
+                int back = (marks[cell] >>> BACK_SHIFT & 0x7) - 1;
+                if (back < 0) {
+                    throw new IllegalStateException("No path found."); // Back at the entry with nothing left to try
+                }
+                marks[cell] = (byte) (marks[cell] & ~MARKS | 2);
+                next = DIRECTIONS[back];
+            } else {
+                marks[cell + steps[next.ordinal()]] = (byte) (1 | (next.turnAround().ordinal() + 1) << BACK_SHIFT);
+            }
+            cell += steps[next.ordinal()];
+            row += next == Direction.SOUTH ? 1 : next == Direction.NORTH ? -1 : 0;
+            col += next == Direction.EAST ? 1 : next == Direction.WEST ? -1 : 0;
+        }
+
+        // Follow the back directions to the entry, leaving a forward direction in each cell on the way
+        while (cell != entry) {
+            Direction back = DIRECTIONS[(marks[cell] >>> BACK_SHIFT & 0x7) - 1];
+            int previous = cell + steps[back.ordinal()];
+            marks[previous] = (byte) (marks[previous] & ~(0x7 << FORWARD_SHIFT) | (back.turnAround().ordinal() + 1) << FORWARD_SHIFT);
+            cell = previous;
+        }
+        Direction heading = Direction.EAST;
+        while (cell != exit) {
+            Direction step = DIRECTIONS[(marks[cell] >>> FORWARD_SHIFT & 0x7) - 1];
+            CellPaths.emitTurn(heading, step, sink);
+            sink.accept('F');
+            heading = step;
+            cell += steps[step.ordinal()];
+        }
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Retrieves the canonical path as a sequence of "F", "L", and "R".
+     */
+    @Override
+    public String getFinalOutput() {
+        return finalOutput.toString();
+    }
+}
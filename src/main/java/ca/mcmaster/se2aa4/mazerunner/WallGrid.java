@@ -0,0 +1,101 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+/**
+ * Bit-packed wall map backing a Maze: one bit per cell, set when the cell is a wall.
+ * Every row starts on a fresh long word, so rows can be scanned and written independently.
+ */
+public class WallGrid {
+    private final int height;
+    private final int width;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    public WallGrid(int height, int width) {
+        if (height <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Grid cannot be null or empty");
+        }
+        this.height = height;
+        this.width = width;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = new long[Math.multiplyExact(height, wordsPerRow)];
+    }
+
+    // Builds a grid from a character array, '#' being a wall and anything else a passage
+    public static WallGrid fromChars(Character[][] cells) {
+        if (cells == null || cells.length == 0 || cells[0].length == 0) {
+            throw new IllegalArgumentException("Grid cannot be null or empty");
+        }
+        WallGrid grid = new WallGrid(cells.length, cells[0].length);
+        for (int row = 0; row < cells.length; row++) {
+            for (int col = 0; col < cells[row].length; col++) {
+                if (cells[row][col] == '#') {
+                    grid.setWall(row, col);
+                }
+            }
+        }
+        return grid;
+    }
+
+    public int getHeight() { return height; }
+    public int getWidth() { return width; }
+    public int getWordsPerRow() { return wordsPerRow; }
+
+    // Raw row-aligned words, for solvers that scan the grid without going through the accessors
+    public long[] getWords() { return words; }
+
+    public boolean isWall(int row, int col) {
+        return ((words[row * wordsPerRow + (col >>> 6)] >>> (col & 63)) & 1L) != 0;
+    }
+
+    public boolean isOpen(int row, int col) {
+        return ((words[row * wordsPerRow + (col >>> 6)] >>> (col & 63)) & 1L) == 0;
+    }
+
+    // True when the neighbour of (row, col) in the given direction is inside the grid and not a wall
+    public boolean isOpen(int row, int col, Direction direction) {
+        return switch (direction) {
+            case NORTH -> row > 0 && isOpen(row - 1, col);
+            case EAST -> col < width - 1 && isOpen(row, col + 1);
+            case SOUTH -> row < height - 1 && isOpen(row + 1, col);
+            case WEST -> col > 0 && isOpen(row, col - 1);
+        };
+    }
+
+    public void setWall(int row, int col) {
+        words[row * wordsPerRow + (col >>> 6)] |= 1L << (col & 63);
+    }
+
+    public void clearWall(int row, int col) {
+        words[row * wordsPerRow + (col >>> 6)] &= ~(1L << (col & 63));
+    }
+
+    // ORs up to 64 wall bits into a row starting at col; bit i of the mask is column col + i
+    public void orBits(int row, int col, long bits) {
+        int index = row * wordsPerRow + (col >>> 6);
+        int shift = col & 63;
+        words[index] |= bits << shift;
+        if (shift != 0 && (bits >>> (64 - shift)) != 0) {
+            words[index + 1] |= bits >>> (64 - shift);
+        }
+    }
+
+    /**
+     * 64-bit hash of the dimensions and every wall bit, eight bytes of maze at a time.
+     * Padding bits past the last column are always zero, so equal mazes always hash the same.
+     */
+    public long contentHash() {
+        long hash = ((long) height << 32 | width) * 0x9E3779B97F4A7C15L;
+        for (long word : words) {
+            hash = Long.rotateLeft(hash ^ (word * 0xBF58476D1CE4E5B9L), 31) * 0x94D049BB133111EBL;
+        }
+        hash ^= hash >>> 29;
+        hash *= 0xBF58476D1CE4E5B9L;
+        return hash ^ (hash >>> 32);
+    }
+
+    public WallGrid copy() {
+        WallGrid copy = new WallGrid(height, width);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+}
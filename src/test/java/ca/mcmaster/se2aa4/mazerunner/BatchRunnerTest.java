@@ -0,0 +1,35 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class BatchRunnerTest {
+
+    @Test
+    void testFindMazesByDirectoryAndGlob() throws Exception {
+        List<Path> all = BatchRunner.findMazes("examples");
+        assertEquals(10, all.size());
+        List<Path> small = BatchRunner.findMazes("examples/s*.maz.txt");
+        assertEquals(List.of("small.maz.txt", "straight.maz.txt"),
+                small.stream().map(path -> path.getFileName().toString()).toList());
+    }
+
+    @Test
+    void testEveryFileGetsOneLineAndASummary() throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        new BatchRunner("bfs", false, 4).run(BatchRunner.findMazes("examples"), new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        List<String> lines = Arrays.asList(buffer.toString(StandardCharsets.UTF_8).split("\\R"));
+
+        assertEquals(11, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("straight.maz.txt\t4F\t")));
+        assertTrue(lines.get(10).startsWith("Solved 10 of 10 mazes"), lines.get(10));
+    }
+}
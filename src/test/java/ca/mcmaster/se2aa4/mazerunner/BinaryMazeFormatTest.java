@@ -0,0 +1,82 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryMazeFormatTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testExamplesRoundTrip() throws Exception {
+        File[] files = new File("examples").listFiles((dir, name) -> name.endsWith(".maz.txt"));
+        assertTrue(files != null && files.length > 0);
+        for (File file : files) {
+            Maze text = MazeFileReader.readMaze(file.getPath());
+            Path binary = directory.resolve(file.getName() + ".mzb");
+            BinaryMazeFormat.write(text, binary);
+            Maze loaded = MazeFileReader.readMaze(binary.toString());
+
+            assertEquals(text.getHeight(), loaded.getHeight(), file.getName());
+            assertEquals(text.getWidth(), loaded.getWidth(), file.getName());
+            assertArrayEquals(text.getWallGrid().getWords(), loaded.getWallGrid().getWords(), file.getName());
+            assertEquals(text.getEntryRow(), loaded.getEntryRow(), file.getName());
+            assertEquals(text.getExitRow(), loaded.getExitRow(), file.getName());
+            assertEquals(text.getExitCol(), loaded.getExitCol(), file.getName());
+            if (text.getHeight() * text.getWidth() > 1024) {
+                assertTrue(Files.size(binary) * 4 < Files.size(file.toPath()), file.getName());
+            }
+        }
+    }
+
+    @Test
+    void testEntryAndExitComeFromTheHeader() throws Exception {
+        // Two openings on the West border: scanning would pick row 1, the header says row 3
+        Maze maze = new Maze(WallGrid.fromChars(new Character[][]{
+            {'#', '#', '#', '#'},
+            {' ', ' ', ' ', '#'},
+            {'#', '#', ' ', '#'},
+            {' ', ' ', ' ', ' '},
+            {'#', '#', '#', '#'}
+        }), 3, 0, 3, 3);
+        Path binary = directory.resolve("header.mzb");
+        BinaryMazeFormat.write(maze, binary);
+        Maze loaded = BinaryMazeFormat.read(ByteBuffer.wrap(Files.readAllBytes(binary)));
+
+        assertEquals(3, loaded.getEntryRow());
+        assertEquals(3, loaded.getExitRow());
+    }
+
+    @Test
+    void testCorruptedFileIsRejected() throws Exception {
+        Path binary = directory.resolve("small.mzb");
+        BinaryMazeFormat.write(MazeFileReader.readMaze("examples/small.maz.txt"), binary);
+        byte[] bytes = Files.readAllBytes(binary);
+        bytes[40] ^= 1;
+        Files.write(binary, bytes);
+
+        IOException error = assertThrows(IOException.class, () -> MazeFileReader.readMaze(binary.toString()));
+        assertTrue(error.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void testTruncatedFileIsRejected() throws Exception {
+        Path binary = directory.resolve("small.mzb");
+        BinaryMazeFormat.write(MazeFileReader.readMaze("examples/small.maz.txt"), binary);
+        byte[] bytes = Files.readAllBytes(binary);
+        ByteBuffer truncated = ByteBuffer.wrap(bytes, 0, bytes.length - 8);
+
+        assertThrows(IOException.class, () -> MazeFileReader.readMaze(truncated));
+    }
+}
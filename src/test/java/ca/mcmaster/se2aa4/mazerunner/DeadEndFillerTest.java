@@ -0,0 +1,79 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class DeadEndFillerTest {
+
+    @Test
+    void testDeadEndBranchesAreFilled() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#', '#', '#', '#'},
+            {'#', ' ', '#', ' ', ' ', '#'},
+            {' ', ' ', ' ', ' ', '#', '#'},
+            {'#', '#', ' ', '#', ' ', ' '},
+            {'#', '#', ' ', ' ', ' ', '#'},
+            {'#', '#', '#', '#', '#', '#'}
+        });
+        Maze pruned = DeadEndFiller.prune(maze);
+
+        assertEquals('#', pruned.returnCellValue(1, 1), "Single dead-end cell should be filled");
+        assertEquals('#', pruned.returnCellValue(1, 4), "Dead-end chain should be filled back to the junction");
+        assertEquals('#', pruned.returnCellValue(1, 3));
+        assertEquals('#', pruned.returnCellValue(2, 3));
+        assertEquals(' ', pruned.returnCellValue(4, 3), "Cells on the way to the exit stay open");
+        assertEquals(' ', pruned.returnCellValue(2, 0), "Entry is never filled");
+        assertEquals(' ', pruned.returnCellValue(3, 5), "Exit is never filled");
+        assertEquals(' ', maze.returnCellValue(1, 1), "The original maze is left untouched");
+    }
+
+    @Test
+    void testParallelBandsMatchSequentialFill() {
+        Random random = new Random(42);
+        int height = 301;
+        int width = 97;
+        Character[][] cells = new Character[height][width];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                boolean border = row == 0 || col == 0 || row == height - 1 || col == width - 1;
+                cells[row][col] = border || random.nextInt(100) < 35 ? '#' : ' ';
+            }
+        }
+        cells[1][0] = ' ';
+        cells[height - 2][width - 1] = ' ';
+        Maze maze = new Maze(cells);
+
+        Maze pruned = DeadEndFiller.prune(maze);
+        fillSequentially(cells, 1, height - 2, width - 1);
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                assertEquals((char) cells[row][col], pruned.returnCellValue(row, col), "Mismatch at " + row + ", " + col);
+            }
+        }
+    }
+
+    private void fillSequentially(Character[][] cells, int entryRow, int exitRow, int exitCol) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int row = 0; row < cells.length; row++) {
+                for (int col = 0; col < cells[0].length; col++) {
+                    if (cells[row][col] == '#' || (row == entryRow && col == 0) || (row == exitRow && col == exitCol)) {
+                        continue;
+                    }
+                    int open = 0;
+                    if (row > 0 && cells[row - 1][col] == ' ') open++;
+                    if (row < cells.length - 1 && cells[row + 1][col] == ' ') open++;
+                    if (col > 0 && cells[row][col - 1] == ' ') open++;
+                    if (col < cells[0].length - 1 && cells[row][col + 1] == ' ') open++;
+                    if (open <= 1) {
+                        cells[row][col] = '#';
+                        changed = true;
+                    }
+                }
+            }
+        }
+    }
+}
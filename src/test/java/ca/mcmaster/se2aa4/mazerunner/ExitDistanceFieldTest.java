@@ -0,0 +1,70 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class ExitDistanceFieldTest {
+
+    private String pathFrom(ExitDistanceField field, int row) {
+        StringBuilder moves = new StringBuilder();
+        field.emitPath(row, 0, Direction.EAST, moves::append);
+        return moves.toString();
+    }
+
+    @Test
+    void testEveryWestOpeningGetsAPath() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#', '#', '#', '#'},
+            {' ', ' ', ' ', '#', ' ', '#'},
+            {'#', '#', ' ', '#', ' ', '#'},
+            {' ', ' ', ' ', ' ', ' ', ' '},
+            {'#', '#', '#', '#', '#', '#'},
+            {' ', ' ', '#', '#', '#', '#'},
+            {'#', '#', '#', '#', '#', '#'}
+        });
+        ExitDistanceField field = maze.getExitDistanceField();
+
+        assertArrayEquals(new int[]{1, 3, 5}, maze.getWestOpenings());
+        assertEquals("FFRFFLFFF", pathFrom(field, 1));
+        assertEquals("FFFFF", pathFrom(field, 3));
+        assertEquals(ExitDistanceField.UNREACHABLE, field.distance(5, 0));
+        assertThrows(IllegalStateException.class, () -> pathFrom(field, 5));
+        assertSame(field, maze.getExitDistanceField(), "The field is computed once per maze");
+    }
+
+    @Test
+    void testPathsAreAsShortAsBreadthFirstSearch() throws Exception {
+        for (long seed = 0; seed < 6; seed++) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            new MazeGenerator(61, 41, seed, 0.2).write(Channels.newChannel(text));
+            WallGrid grid = MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray()));
+            // Open more of the West border; each new opening leads into the cell next to it
+            for (int row = 1; row < grid.getHeight() - 1; row += 4) {
+                if (grid.isOpen(row, 1)) {
+                    grid.clearWall(row, 0);
+                }
+            }
+            Maze maze = new Maze(grid);
+            ExitDistanceField field = maze.getExitDistanceField();
+
+            for (int row : maze.getWestOpenings()) {
+                Maze fromRow = new Maze(grid, row, 0, maze.getExitRow(), maze.getExitCol());
+                MazeSolver bfs = MazeNavigationFactory.createSolver(fromRow, "bfs");
+                bfs.solve();
+                String path = pathFrom(field, row);
+
+                assertTrue(PathValidator.isValidPath(fromRow, path), "seed " + seed + ", row " + row);
+                assertEquals(bfs.getFinalOutput().chars().filter(move -> move == 'F').count(),
+                        path.chars().filter(move -> move == 'F').count(), "seed " + seed + ", row " + row);
+            }
+        }
+    }
+}
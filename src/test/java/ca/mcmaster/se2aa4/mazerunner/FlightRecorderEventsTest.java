@@ -0,0 +1,112 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jdk.jfr.consumer.RecordingStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private List<RecordedEvent> record(Recording recording, Runnable work) throws Exception {
+        recording.start();
+        work.run();
+        recording.stop();
+        Path file = directory.resolve("maze.jfr");
+        recording.dump(file);
+        recording.close();
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals("ca.mcmaster.se2aa4.mazerunner." + name)).toList();
+    }
+
+    @Test
+    void testLoadSolveEncodeAndValidateAreRecorded() throws Exception {
+        Recording recording = new Recording();
+        for (Class<? extends jdk.jfr.Event> type : List.of(MazeLoadEvent.class, MazeSolveEvent.class,
+                MazeEncodeEvent.class, PathValidateEvent.class)) {
+            recording.enable(type).withThreshold(Duration.ZERO);
+        }
+        List<RecordedEvent> events = record(recording, () -> {
+            try {
+                Maze maze = MazeFileReader.readMaze("examples/tiny.maz.txt");
+                new MazeRunner(maze, "righthand").solveMaze();
+                Encoder.encode("FFFLF"); // 3F L F
+                PathValidator.isValidPath(maze, "3F L 4F R 3F");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        RecordedEvent load = named(events, "MazeLoad").get(0);
+        assertEquals("text", load.getString("format"));
+        assertEquals("ok", load.getString("outcome"));
+        RecordedEvent solve = named(events, "MazeSolve").get(0);
+        assertEquals("righthand", solve.getString("algorithm"));
+        assertEquals(18, solve.getLong("steps"));
+        assertEquals("solved", solve.getString("outcome"));
+        assertEquals(6, named(events, "MazeEncode").get(0).getInt("factorizedLength"));
+        assertTrue(named(events, "PathValidate").get(0).getBoolean("valid"));
+    }
+
+    @Test
+    void testSolvesInFlightReportProgress() throws Exception {
+        Maze maze = MazeFileReader.readMaze("examples/tiny.maz.txt");
+        CountDownLatch reported = new CountDownLatch(1);
+        AtomicReference<RecordedEvent> progress = new AtomicReference<>();
+        // Holds the solve at its first output until a progress sample of it has been seen
+        Writer waitForProgress = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                try {
+                    if (!reported.await(30, TimeUnit.SECONDS)) {
+                        throw new IOException("No SolverProgress event within 30 s");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+
+        try (RecordingStream stream = new RecordingStream()) {
+            // MazeRunner only counts progress while MazeSolve is enabled
+            stream.enable(MazeSolveEvent.class).withThreshold(Duration.ZERO);
+            stream.enable(SolverProgressEvent.class).withPeriod(Duration.ofMillis(10));
+            stream.onEvent("ca.mcmaster.se2aa4.mazerunner.SolverProgress", event -> {
+                if (event.getLong("moves") > 0 && progress.compareAndSet(null, event)) {
+                    reported.countDown();
+                }
+            });
+            stream.startAsync();
+            new MazeRunner(maze, "pledge").solveMaze(waitForProgress);
+        }
+
+        assertEquals("pledge", progress.get().getString("algorithm"));
+        assertEquals(maze.getWidth(), progress.get().getInt("width"));
+    }
+}
@@ -0,0 +1,69 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class LoopEraserTest {
+
+    @Test
+    void testDeadEndDetourIsErased() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#', '#', '#'},
+            {'#', ' ', '#', '#', '#'},
+            {' ', ' ', ' ', ' ', ' '},
+            {'#', '#', '#', '#', '#'}
+        });
+        // Walks into the dead end above (2, 1), turns around and comes back
+        assertEquals("FFFF", LoopEraser.erase(maze, "F L F R R F L F F F"));
+    }
+
+    @Test
+    void testRightHandPathOnTinyBecomesShortest() throws Exception {
+        Maze maze = MazeFileReader.readMaze("examples/tiny.maz.txt");
+        MazeSolver righthand = MazeNavigationFactory.createSolver(maze, "righthand");
+        righthand.solve();
+        MazeSolver bfs = MazeNavigationFactory.createSolver(maze, "bfs");
+        bfs.solve();
+
+        assertEquals(bfs.getFinalOutput(), LoopEraser.erase(maze, righthand.getFinalOutput()));
+    }
+
+    @Test
+    void testErasedPathsAreValidAndNoLonger() throws Exception {
+        for (long seed = 0; seed < 10; seed++) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            new MazeGenerator(41, 31, seed, seed % 2 == 0 ? 0 : 0.25).write(Channels.newChannel(text));
+            Maze maze = new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray())));
+            for (String algorithm : new String[]{"tremaux", "pledge"}) {
+                MazeSolver solver = MazeNavigationFactory.createSolver(maze, algorithm);
+                solver.solve();
+                String erased = LoopEraser.erase(maze, solver.getFinalOutput());
+
+                assertTrue(PathValidator.isValidPath(maze, erased), algorithm + " on seed " + seed);
+                assertTrue(erased.length() <= solver.getFinalOutput().replace(" ", "").length());
+                if (seed % 2 == 0) {
+                    // A perfect maze has exactly one loop-free path
+                    MazeSolver bfs = MazeNavigationFactory.createSolver(maze, "bfs");
+                    bfs.solve();
+                    assertEquals(bfs.getFinalOutput().replace(" ", ""), erased, algorithm + " on seed " + seed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMovesLeavingTheGridAreRejected() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#'},
+            {' ', ' ', ' '},
+            {'#', '#', '#'}
+        });
+        assertThrows(IllegalArgumentException.class, () -> LoopEraser.erase(maze, "RRF"));
+    }
+}
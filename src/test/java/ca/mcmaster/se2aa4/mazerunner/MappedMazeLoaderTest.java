@@ -0,0 +1,58 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class MappedMazeLoaderTest {
+
+    private WallGrid load(String text) throws Exception {
+        return MappedMazeLoader.load(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private void assertRow(WallGrid grid, int row, String expected) {
+        StringBuilder actual = new StringBuilder();
+        for (int col = 0; col < grid.getWidth(); col++) {
+            actual.append(grid.isWall(row, col) ? '#' : ' ');
+        }
+        assertEquals(expected, actual.toString());
+    }
+
+    @Test
+    void testShortRowsArePaddedWithPassages() throws Exception {
+        WallGrid grid = load("#####\n#\n  ###\n");
+        assertEquals(3, grid.getHeight());
+        assertEquals(5, grid.getWidth());
+        assertRow(grid, 0, "#####");
+        assertRow(grid, 1, "#    ");
+        assertRow(grid, 2, "  ###");
+    }
+
+    @Test
+    void testWindowsLineEndingsAndMissingFinalNewline() throws Exception {
+        WallGrid grid = load("## #\r\n#  #");
+        assertEquals(2, grid.getHeight());
+        assertEquals(4, grid.getWidth());
+        assertRow(grid, 0, "## #");
+        assertRow(grid, 1, "#  #");
+    }
+
+    @Test
+    void testLongRowsMatchCharacterByCharacter() throws Exception {
+        StringBuilder row = new StringBuilder();
+        for (int col = 0; col < 150; col++) {
+            row.append(col % 3 == 0 || col % 7 == 0 ? '#' : ' ');
+        }
+        WallGrid grid = load(row + "\n" + row + "\n");
+        assertRow(grid, 0, row.toString());
+        assertRow(grid, 1, row.toString());
+    }
+
+    @Test
+    void testEmptyInputIsRejected() {
+        assertThrows(Exception.class, () -> load(""));
+    }
+}
@@ -0,0 +1,89 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class MazeGeneratorTest {
+
+    @Test
+    void testSameSeedGivesSameMaze() throws Exception {
+        assertArrayEquals(generate(41, 31, 7, 0), generate(41, 31, 7, 0));
+        assertFalse(Arrays.equals(generate(41, 31, 7, 0), generate(41, 31, 8, 0)));
+    }
+
+    @Test
+    void testPerfectMazeIsATree() throws Exception {
+        for (int[] size : new int[][]{{41, 31}, {40, 30}, {3, 3}}) {
+            Maze maze = load(generate(size[0], size[1], 3, 0));
+            assertEquals(size[1], maze.getHeight());
+            assertEquals(size[0], maze.getWidth());
+            assertEquals(countOpenCells(maze) - 1, countPassages(maze), "A perfect maze has no loops");
+
+            MazeSolver solver = MazeNavigationFactory.createSolver(maze, "bfs");
+            solver.solve();
+            assertTrue(PathValidator.isValidPath(maze, solver.getFinalOutput()));
+        }
+    }
+
+    @Test
+    void testLoopsAddPassages() throws Exception {
+        Maze maze = load(generate(61, 61, 3, 0.2));
+        assertTrue(countPassages(maze) > countOpenCells(maze) - 1);
+    }
+
+    @Test
+    void testRejectsTinyMazes() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeGenerator(2, 10, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MazeGenerator(10, 10, 0, 1.5));
+    }
+
+    private static byte[] generate(int width, int height, long seed, double loops) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MazeGenerator(width, height, seed, loops).write(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static Maze load(byte[] text) throws Exception {
+        return new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text)));
+    }
+
+    private static int countOpenCells(Maze maze) {
+        int open = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.returnCellValue(row, col) == ' ') {
+                    open++;
+                }
+            }
+        }
+        return open;
+    }
+
+    // Number of pairs of open cells next to each other
+    private static int countPassages(Maze maze) {
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.returnCellValue(row, col) != ' ') {
+                    continue;
+                }
+                if (col + 1 < maze.getWidth() && maze.returnCellValue(row, col + 1) == ' ') {
+                    passages++;
+                }
+                if (row + 1 < maze.getHeight() && maze.returnCellValue(row + 1, col) == ' ') {
+                    passages++;
+                }
+            }
+        }
+        return passages;
+    }
+}
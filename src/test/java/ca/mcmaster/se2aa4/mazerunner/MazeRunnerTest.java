@@ -0,0 +1,70 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class MazeRunnerTest {
+
+    @Test
+    void testWriterAndChannelMatchString() throws Exception {
+        for (String algorithm : new String[]{"righthand", "bfs", "tremaux"}) {
+            Maze maze = MazeFileReader.readMaze("examples/tiny.maz.txt");
+            String expected = new MazeRunner(maze, algorithm).solveMaze();
+
+            StringWriter writer = new StringWriter();
+            new MazeRunner(maze, algorithm).solveMaze(writer);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new MazeRunner(maze, algorithm).solveMaze(Channels.newChannel(bytes));
+
+            assertEquals(expected, writer.toString(), algorithm);
+            assertEquals(expected, bytes.toString(StandardCharsets.US_ASCII), algorithm);
+        }
+    }
+
+    @Test
+    void testTokensReachTheWriterWhileSolving() throws Exception {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        new MazeGenerator(201, 201, 3, 0).write(Channels.newChannel(text));
+        Maze maze = new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray())));
+
+        // Records how much had been written before the last write
+        long[] writtenBeforeLastToken = new long[1];
+        Writer counting = new Writer() {
+            private long written;
+
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                writtenBeforeLastToken[0] = written;
+                written += length;
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        new MazeRunner(maze, "bfs").solveMaze(counting);
+
+        assertTrue(writtenBeforeLastToken[0] > 0, "Tokens should be written one by one, not as a single string");
+    }
+
+    @Test
+    void testUnsolvableMazeThrows() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#', '#'},
+            {' ', ' ', '#', ' '},
+            {'#', '#', '#', '#'}
+        });
+        assertThrows(IllegalStateException.class, () -> new MazeRunner(maze, "bfs").solveMaze(new StringWriter()));
+    }
+}
@@ -0,0 +1,134 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class MazeServerTest {
+
+    @Test
+    void testPipelinedRequestsAreAllAnswered() throws Exception {
+        byte[] straight = Files.readAllBytes(Path.of("examples/straight.maz.txt"));
+        try (MazeServer server = new MazeServer(0); Socket socket = new Socket("localhost", server.getPort())) {
+            server.start();
+            OutputStream out = socket.getOutputStream();
+            // Everything is written before reading any answer
+            out.write(("a SOLVE bfs BODY " + straight.length + "\n").getBytes(StandardCharsets.UTF_8));
+            out.write(straight);
+            out.write(("b SOLVE righthand FILE examples/straight.maz.txt\n"
+                    + "c VALIDATE 4F FILE examples/straight.maz.txt\n"
+                    + "d VALIDATE 3F FILE examples/straight.maz.txt\n"
+                    + "e SOLVE nope FILE examples/straight.maz.txt\n"
+                    + "f JUMP x FILE y\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            InputStream in = socket.getInputStream();
+            Map<String, String> answers = new HashMap<>();
+            for (int i = 0; i < 6; i++) {
+                String[] reply = MazeServer.readLine(in).split(" ", 2);
+                answers.put(reply[0], reply[1]);
+            }
+            assertEquals("OK 4F", answers.get("a"));
+            assertEquals("OK 4F", answers.get("b"));
+            assertEquals("OK correct path", answers.get("c"));
+            assertEquals("OK incorrect path", answers.get("d"));
+            assertEquals("ERROR Unknown algorithm type: nope", answers.get("e"));
+            assertTrue(answers.get("f").startsWith("ERROR Unknown command"));
+        }
+    }
+
+    @Test
+    void testRejectedBodyIsSkipped() throws Exception {
+        byte[] straight = Files.readAllBytes(Path.of("examples/straight.maz.txt"));
+        try (MazeServer server = new MazeServer(0); Socket socket = new Socket("localhost", server.getPort())) {
+            server.start();
+            OutputStream out = socket.getOutputStream();
+            out.write(("a JUMP bfs BODY " + straight.length + "\n").getBytes(StandardCharsets.UTF_8));
+            out.write(straight);
+            out.write("b SOLVE bfs FILE examples/straight.maz.txt\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            // The maze lines of the rejected request are not read as headers
+            InputStream in = socket.getInputStream();
+            assertTrue(MazeServer.readLine(in).startsWith("a ERROR Unknown command"));
+            assertEquals("b OK 4F", MazeServer.readLine(in));
+        }
+    }
+
+    @Test
+    void testUnframedBodyClosesTheConnection() throws Exception {
+        try (MazeServer server = new MazeServer(0); Socket socket = new Socket("localhost", server.getPort())) {
+            server.start();
+            OutputStream out = socket.getOutputStream();
+            out.write(("a SOLVE bfs BODY -5\n"
+                    + "#####\n"
+                    + "b SOLVE bfs FILE examples/straight.maz.txt\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            InputStream in = socket.getInputStream();
+            assertEquals("a ERROR Invalid body length: -5", MazeServer.readLine(in));
+            assertNull(MazeServer.readLine(in));
+        }
+    }
+
+    @Test
+    void testLoadClientReportsPercentiles() throws Exception {
+        byte[] tiny = Files.readAllBytes(Path.of("examples/tiny.maz.txt"));
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        try (MazeServer server = new MazeServer(0)) {
+            server.start();
+            new MazeLoadClient("localhost", server.getPort())
+                    .run(tiny, "bfs", 50, 8, new PrintStream(report, true, StandardCharsets.UTF_8));
+        }
+        String line = report.toString(StandardCharsets.UTF_8);
+        assertTrue(line.startsWith("50 requests in "), line);
+        assertTrue(line.contains("p99") && line.endsWith("0 errors" + System.lineSeparator()), line);
+    }
+
+    @Test
+    void testLoadClientStopsWhenTheServerGoesAway() throws Exception {
+        byte[] tiny = Files.readAllBytes(Path.of("examples/tiny.maz.txt"));
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        // Answers two requests, then hangs up with the client's window full
+        try (ServerSocket listener = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = Thread.ofVirtual().start(() -> {
+                try (Socket socket = listener.accept()) {
+                    InputStream in = socket.getInputStream();
+                    OutputStream out = socket.getOutputStream();
+                    for (int i = 0; i < 2; i++) {
+                        String id = MazeServer.readLine(in).split(" ", 2)[0];
+                        in.readNBytes(tiny.length);
+                        out.write((id + " OK 3F\n").getBytes(StandardCharsets.UTF_8));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            MazeLoadClient client = new MazeLoadClient("localhost", listener.getLocalPort());
+            assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> client.run(tiny, "bfs", 20, 2, new PrintStream(report, true, StandardCharsets.UTF_8)));
+            server.join();
+        }
+        String line = report.toString(StandardCharsets.UTF_8);
+        assertTrue(line.startsWith("20 requests in "), line);
+        assertTrue(line.endsWith("18 errors" + System.lineSeparator()), line);
+    }
+}
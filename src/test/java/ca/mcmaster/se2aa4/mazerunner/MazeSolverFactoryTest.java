@@ -24,7 +24,8 @@ class MazeNavigationFactoryTest {
         MazeNavigation strategy = MazeNavigationFactory.createStrategy(solver);
 
         assertNotNull(strategy, "Factory should return a non-null strategy");
-        assertInstanceOf(DefaultMazeNavigationStrategy.class, strategy, "Default strategy should be Right-Hand Rule");
+        assertInstanceOf(TableNavigationStrategy.class, strategy, "Default strategy should be the table-driven Right-Hand Rule");
+        assertInstanceOf(DefaultMazeNavigationStrategy.class, MazeNavigationFactory.createStrategy(solver, "default"));
     }
 
     @Test
@@ -45,6 +46,15 @@ class MazeNavigationFactoryTest {
         assertInstanceOf(RightHandNavigation.class, solver, "Default solver should be RightHandNavigation");
     }
 
+    @Test
+    void testCreateBreadthFirstSolver() {
+        Maze testMaze = createTestMaze();
+        MazeSolver solver = MazeNavigationFactory.createSolver(testMaze, "bfs");
+
+        assertNotNull(solver, "Factory should return a non-null solver");
+        assertInstanceOf(BreadthFirstNavigation.class, solver, "Solver should be BreadthFirstNavigation");
+    }
+
     @Test
     void testInvalidSolverTypeThrowsException() {
         Maze testMaze = createTestMaze();
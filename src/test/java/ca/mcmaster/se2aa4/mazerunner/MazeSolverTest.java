@@ -1,6 +1,12 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 class MazeSolverTest {
@@ -67,4 +73,213 @@ class MazeSolverTest {
         solver.solve();
         assertEquals("2F 2R F R 2F R 2F", Encoder.encode(solver.getFinalOutput()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBreadthFirstFindsShortestPath() {
+        Character[][] grid = {
+            {'#', '#', '#', '#', '#'},
+            {'#', '#', '#', '#', '#'},
+            {' ', ' ', ' ', ' ', ' '},
+            {'#', ' ', ' ', ' ', '#'},
+            {'#', '#', '#', '#', '#'}
+        };
+        Maze maze = createTestMaze(grid);
+        MazeSolver solver = MazeNavigationFactory.createSolver(maze, "bfs");
+        solver.solve();
+        assertEquals("4F", Encoder.encode(solver.getFinalOutput()));
+    }
+
+    @Test
+    void testBreadthFirstWithTurns() {
+        Character[][] grid = {
+            {'#', '#', '#', '#'},
+            {'#', ' ', ' ', ' '},
+            {' ', ' ', '#', '#'},
+            {'#', '#', '#', '#'}
+        };
+        Maze maze = createTestMaze(grid);
+        MazeSolver solver = MazeNavigationFactory.createSolver(maze, "bfs");
+        solver.solve();
+        assertEquals("F L F R 2F", Encoder.encode(solver.getFinalOutput()));
+    }
+
+    @Test
+    void testInformedSolversFindShortestPathThroughOpenRoom() {
+        Character[][] grid = {
+            {'#', '#', '#', '#', '#', '#', '#'},
+            {'#', ' ', ' ', ' ', ' ', ' ', '#'},
+            {' ', ' ', ' ', ' ', ' ', ' ', '#'},
+            {'#', ' ', ' ', ' ', ' ', ' ', ' '},
+            {'#', ' ', ' ', ' ', ' ', ' ', '#'},
+            {'#', '#', '#', '#', '#', '#', '#'}
+        };
+        for (String algorithm : new String[]{"bfs", "astar", "jps"}) {
+            MazeSolver solver = MazeNavigationFactory.createSolver(createTestMaze(grid), algorithm);
+            solver.solve();
+            long forwardMoves = solver.getFinalOutput().chars().filter(move -> move == 'F').count();
+            assertEquals(7, forwardMoves, algorithm + " should take a shortest path");
+        }
+    }
+
+    @Test
+    void testJumpPointSearchWithTurns() {
+        Character[][] grid = {
+            {'#', '#', '#', '#'},
+            {'#', ' ', ' ', ' '},
+            {' ', ' ', '#', '#'},
+            {'#', '#', '#', '#'}
+        };
+        Maze maze = createTestMaze(grid);
+        MazeSolver solver = MazeNavigationFactory.createSolver(maze, "jps");
+        solver.solve();
+        assertEquals("F L F R 2F", Encoder.encode(solver.getFinalOutput()));
+    }
+
+    @Test
+    void testBidirectionalStitchesBothHalves() {
+        Character[][] grid = {
+            {'#', '#', '#', '#', '#', '#'},
+            {'#', ' ', ' ', ' ', ' ', ' '},
+            {' ', ' ', '#', '#', '#', '#'},
+            {'#', '#', '#', '#', '#', '#'}
+        };
+        Maze maze = createTestMaze(grid);
+        MazeSolver solver = MazeNavigationFactory.createSolver(maze, "bidirectional");
+        solver.solve();
+        assertEquals("F L F R 4F", Encoder.encode(solver.getFinalOutput()));
+    }
+
+    @Test
+    void testBidirectionalReportsDisconnectedMaze() {
+        Character[][] grid = {
+            {'#', '#', '#', '#', '#'},
+            {' ', ' ', '#', ' ', ' '},
+            {'#', '#', '#', '#', '#'}
+        };
+        MazeSolver solver = MazeNavigationFactory.createSolver(createTestMaze(grid), "bidirectional");
+        assertThrows(IllegalStateException.class, solver::solve);
+    }
+
+    @Test
+    void testBidirectionalPathsAreShortestOnLoopyMazes() throws Exception {
+        // With loops the first edge where the frontiers touch is not always on a shortest path
+        for (long seed = 0; seed < 20; seed++) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            new MazeGenerator(101, 101, seed, 0.3).write(Channels.newChannel(text));
+            Maze maze = new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray())));
+            MazeSolver bfs = MazeNavigationFactory.createSolver(maze, "bfs");
+            bfs.solve();
+            for (int run = 0; run < 5; run++) {
+                MazeSolver bidirectional = MazeNavigationFactory.createSolver(maze, "bidirectional");
+                bidirectional.solve();
+                assertTrue(PathValidator.isValidPath(maze, bidirectional.getFinalOutput()));
+                assertEquals(forwardSteps(bfs.getFinalOutput()), forwardSteps(bidirectional.getFinalOutput()),
+                        "seed " + seed);
+            }
+        }
+    }
+
+    private static long forwardSteps(String path) {
+        return path.chars().filter(move -> move == 'F').count();
+    }
+
+    @Test
+    void testStreamingEncoderMatchesEncoder() {
+        String canonical = "FFFFF RR FF R FFFFFFFFFFFF L F";
+        StringBuilder streamed = new StringBuilder();
+        StreamingEncoder encoder = new StreamingEncoder(streamed);
+        canonical.chars().forEach(move -> encoder.accept((char) move));
+        encoder.finish();
+        assertEquals("5F 2R 2F R 12F L F", streamed.toString());
+        assertEquals(Encoder.encode(canonical), streamed.toString());
+    }
+
+    @Test
+    void testSolverStreamsSameMovesAsFinalOutput() {
+        Character[][] grid = {
+            {'#', '#', '#', '#'},
+            {'#', ' ', ' ', ' '},
+            {'#', ' ', '#', '#'},
+            {' ', ' ', ' ', '#'},
+            {'#', '#', '#', '#'}
+        };
+        MazeSolver buffered = MazeNavigationFactory.createSolver(createTestMaze(grid), "righthand");
+        buffered.solve();
+        StringBuilder streamed = new StringBuilder();
+        StreamingEncoder encoder = new StreamingEncoder(streamed);
+        MazeNavigationFactory.createSolver(createTestMaze(grid), "righthand").solve(encoder);
+        encoder.finish();
+        assertEquals(Encoder.encode(buffered.getFinalOutput()), streamed.toString());
+    }
+
+    @Test
+    void testTraceIsRecordedOnlyWhenEnabled() {
+        Character[][] grid = {
+            {'#', '#', '#', '#'},
+            {'#', ' ', ' ', ' '},
+            {' ', ' ', '#', '#'},
+            {'#', '#', '#', '#'}
+        };
+        RightHandNavigation untraced = RightHandNavigation.create(createTestMaze(grid));
+        untraced.solve();
+        assertEquals(null, untraced.getTrace());
+        assertEquals(0, untraced.getPathTaken().size());
+
+        RightHandNavigation traced = RightHandNavigation.create(createTestMaze(grid));
+        traced.enableTrace();
+        traced.solve();
+        SolverTrace trace = traced.getTrace();
+        assertEquals(6, trace.size());
+        assertEquals("Position: (2, 1), Direction: F", trace.describe(0));
+        assertEquals("Position: (1, 3), Direction: F", trace.describe(5));
+        assertEquals(trace.describe(1), traced.getPathTaken().get(1));
+    }
+
+    @Test
+    void testWalkAroundDetachedIslandStops() {
+        Character[][] grid = {
+            {'#', '#', '#', '#', '#', '#', '#'},
+            {' ', ' ', ' ', ' ', ' ', ' ', '#'},
+            {'#', ' ', ' ', ' ', ' ', ' ', '#'},
+            {'#', ' ', ' ', '#', ' ', ' ', '#'},
+            {'#', ' ', ' ', ' ', ' ', ' ', '#'},
+            {'#', '#', '#', '#', '#', '#', '#'},
+            {'#', '#', '#', '#', '#', '#', ' '}
+        };
+        for (String strategy : new String[]{"default", "table"}) {
+            RightHandNavigation solver = RightHandNavigation.create(createTestMaze(grid), strategy);
+            // With the island on its right, the walker circles it forever
+            solver.setCurrentPosition(new Position(2, 3));
+            IllegalStateException exception = assertThrows(IllegalStateException.class, solver::solve);
+            assertTrue(exception.getMessage().startsWith("No path found."), exception.getMessage());
+            assertEquals(8, solver.getNodesExpanded());
+        }
+    }
+
+    @Test
+    void testTremauxAndPledgeFindValidPathsThroughLoops() throws Exception {
+        for (int seed = 0; seed < 10; seed++) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            new MazeGenerator(41, 31, seed, seed % 2 == 0 ? 0 : 0.25).write(Channels.newChannel(text));
+            Maze maze = new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray())));
+            for (String algorithm : new String[]{"tremaux", "pledge"}) {
+                MazeSolver solver = MazeNavigationFactory.createSolver(maze, algorithm);
+                solver.solve();
+                assertTrue(PathValidator.isValidPath(maze, solver.getFinalOutput()), algorithm + " on seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void testTremauxAndPledgeReportDisconnectedMaze() {
+        Character[][] grid = {
+            {'#', '#', '#', '#', '#'},
+            {' ', ' ', '#', ' ', ' '},
+            {'#', '#', '#', '#', '#'}
+        };
+        for (String algorithm : new String[]{"tremaux", "pledge"}) {
+            MazeSolver solver = MazeNavigationFactory.createSolver(createTestMaze(grid), algorithm);
+            assertThrows(IllegalStateException.class, solver::solve, algorithm);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package ca.mcmaster.se2aa4.mazerunner;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,73 @@ class ObserverTest {
         }
     }
 
+    @Test
+    void testBlockingBusDeliversEveryMoveInOrder() {
+        List<SolverEvent> events = new ArrayList<>();
+        RightHandNavigation solver = RightHandNavigation.create(corridor(200));
+        solver.configureEvents(4, SolverEventBus.OverflowPolicy.BLOCK);
+        solver.addObserver(events::add);
+        solver.solve();
+
+        long moves = events.stream().filter(e -> e.type() == SolverEvent.Type.MOVE).count();
+        assertEquals(solver.getNodesExpanded(), moves);
+        assertEquals(199, events.get(events.size() - 2).col());
+        assertEquals(SolverEvent.Type.SOLVED, events.get(events.size() - 1).type());
+    }
+
+    @Test
+    void testBlockedSolverParksWhileTheObserverLags() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<SolverEvent> events = new ArrayList<>();
+        RightHandNavigation solver = RightHandNavigation.create(corridor(300));
+        solver.configureEvents(2, SolverEventBus.OverflowPolicy.BLOCK);
+        solver.addObserver(event -> {
+            events.add(event);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        long wallStart = System.nanoTime();
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        solver.solve();
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        long wall = System.nanoTime() - wallStart;
+
+        assertEquals(SolverEvent.Type.SOLVED, events.get(events.size() - 1).type());
+        assertTrue(cpu < wall / 2, "A solver waiting on a full ring should park, not spin");
+    }
+
+    @Test
+    void testDroppingBusStillDeliversTerminalEvent() {
+        List<SolverEvent> events = new ArrayList<>();
+        RightHandNavigation solver = RightHandNavigation.create(corridor(5000));
+        solver.configureEvents(2, SolverEventBus.OverflowPolicy.DROP);
+        solver.addObserver(event -> {
+            events.add(event);
+            try {
+                Thread.sleep(1); // A slow observer must not slow the solver down
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        solver.solve();
+
+        assertTrue(events.size() < 5000, "Events should be dropped while the observer lags behind");
+        assertEquals(SolverEvent.Type.SOLVED, events.get(events.size() - 1).type());
+    }
+
+    private static Maze corridor(int width) {
+        Character[][] grid = new Character[3][width];
+        for (int col = 0; col < width; col++) {
+            grid[0][col] = '#';
+            grid[1][col] = ' ';
+            grid[2][col] = '#';
+        }
+        return new Maze(grid);
+    }
+
     static class LogCaptor extends Handler implements AutoCloseable {
         private final Logger logger;
         private final List<String> capturedLogs = new ArrayList<>();
@@ -0,0 +1,99 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class ParallelBreadthFirstNavigationTest {
+
+    private long steps(String path) {
+        return path.chars().filter(move -> move == 'F').count();
+    }
+
+    private void assertMatchesBfs(Maze maze, ParallelBreadthFirstNavigation parallel, String name) {
+        MazeSolver bfs = new BreadthFirstNavigation(maze);
+        bfs.solve();
+        parallel.solve();
+
+        assertTrue(PathValidator.isValidPath(maze, parallel.getFinalOutput()), name);
+        assertEquals(steps(bfs.getFinalOutput()), steps(parallel.getFinalOutput()), name);
+    }
+
+    private Maze generate(int size, long seed, double loops) throws Exception {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        new MazeGenerator(size, size, seed, loops).write(Channels.newChannel(text));
+        return new Maze(MappedMazeLoader.load(ByteBuffer.wrap(text.toByteArray())));
+    }
+
+    @Test
+    void testPathLengthMatchesSequentialBfsOnExamples() throws Exception {
+        File[] files = new File("examples").listFiles((dir, name) -> name.endsWith(".maz.txt"));
+        assertTrue(files != null && files.length > 0);
+        for (File file : files) {
+            Maze maze = MazeFileReader.readMaze(file.getPath());
+            assertMatchesBfs(maze, new ParallelBreadthFirstNavigation(maze), file.getName());
+        }
+    }
+
+    @Test
+    void testWideFrontiersAreSplitAcrossWorkers() throws Exception {
+        // Open mazes with many loops have levels of several hundred cells, more than one default chunk
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 3; seed++) {
+                Maze maze = generate(801, seed, 0.9);
+                ParallelBreadthFirstNavigation parallel = new ParallelBreadthFirstNavigation(maze, pool);
+                assertMatchesBfs(maze, parallel, "seed " + seed);
+                assertTrue(parallel.getParallelLevels() > 0, "seed " + seed);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testTinyChunksRaceForTheSameCells() throws Exception {
+        // Chunks of 2 cells split almost every level, so neighbouring chunks keep claiming the same cells
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (double loops : new double[]{0, 0.5}) {
+                for (long seed = 0; seed < 5; seed++) {
+                    Maze maze = generate(201, seed, loops);
+                    ParallelBreadthFirstNavigation parallel = new ParallelBreadthFirstNavigation(maze, pool, 2);
+                    assertMatchesBfs(maze, parallel, "loops " + loops + ", seed " + seed);
+                    assertTrue(parallel.getParallelLevels() > 0);
+                }
+            }
+            for (File file : new File("examples").listFiles((dir, name) -> name.endsWith(".maz.txt"))) {
+                Maze maze = MazeFileReader.readMaze(file.getPath());
+                assertMatchesBfs(maze, new ParallelBreadthFirstNavigation(maze, pool, 1), file.getName());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testChunkSizeMustBePositive() {
+        Maze maze = new Maze(new Character[][]{{' ', ' '}});
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBreadthFirstNavigation(maze, ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    void testDisconnectedMazeThrows() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#', '#'},
+            {' ', ' ', '#', ' '},
+            {'#', '#', '#', '#'}
+        });
+        assertThrows(IllegalStateException.class, () -> new ParallelBreadthFirstNavigation(maze).solve());
+    }
+}
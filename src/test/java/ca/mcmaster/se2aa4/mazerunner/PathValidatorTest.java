@@ -0,0 +1,50 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class PathValidatorTest {
+
+    private Maze createTestMaze() {
+        return new Maze(new Character[][]{
+            {'#', '#', '#', '#'},
+            {'#', ' ', ' ', ' '},
+            {' ', ' ', '#', '#'},
+            {'#', '#', '#', '#'}
+        });
+    }
+
+    @Test
+    void testCanonicalAndFactorizedPathsAreAccepted() {
+        Maze maze = createTestMaze();
+        assertTrue(PathValidator.isValidPath(maze, "FLFRFF"));
+        assertTrue(PathValidator.isValidPath(maze, "F L F R 2F"));
+    }
+
+    @Test
+    void testAnyLegalPathIsAccepted() {
+        Maze maze = createTestMaze();
+        assertTrue(PathValidator.isValidPath(maze, "F 4R L F R 2F"), "Extra full turns do not change the walk");
+    }
+
+    @Test
+    void testPathFromExitSideIsAccepted() {
+        Maze maze = createTestMaze();
+        assertTrue(PathValidator.isValidPath(maze, "2F L F R F"));
+    }
+
+    @Test
+    void testPathThroughWallIsRejected() {
+        Maze maze = createTestMaze();
+        assertFalse(PathValidator.isValidPath(maze, "3F"));
+        assertFalse(PathValidator.isValidPath(maze, "F L F R F"), "Path stopping short of the exit is rejected");
+    }
+
+    @Test
+    void testMalformedPathIsRejected() {
+        Maze maze = createTestMaze();
+        assertFalse(PathValidator.isValidPath(maze, "F L F R 2X"));
+        assertFalse(PathValidator.isValidPath(maze, "F L F R 2F 3"));
+    }
+}
@@ -0,0 +1,130 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SolutionCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testHitAfterSolveAndAfterReopening() throws Exception {
+        Path file = directory.resolve("solutions.cache");
+        Maze maze = MazeFileReader.readMaze("examples/small.maz.txt");
+        String expected = new MazeRunner(maze, "bfs").solveMaze();
+
+        try (SolutionCache cache = new SolutionCache(file, 1 << 20, 16)) {
+            assertEquals(expected, cache.solve(maze, "bfs", false));
+            assertEquals(expected, cache.solve(maze, "bfs", false));
+            assertEquals(1, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+        // A fresh cache answers from the file alone, without solving
+        try (SolutionCache cache = new SolutionCache(file, 1 << 20, 16)) {
+            assertEquals(expected, cache.get(SolutionCache.keyOf(maze, "bfs")));
+            assertNull(cache.get(SolutionCache.keyOf(maze, "astar")));
+        }
+    }
+
+    @Test
+    void testKeyDependsOnContent() throws Exception {
+        Maze small = MazeFileReader.readMaze("examples/small.maz.txt");
+        Maze again = MazeFileReader.readMaze("examples/small.maz.txt");
+        assertEquals(SolutionCache.keyOf(small, "bfs"), SolutionCache.keyOf(again, "bfs"));
+
+        WallGrid changed = small.getWallGrid().copy();
+        changed.setWall(1, 1);
+        assertNotEquals(small.getWallGrid().contentHash(), changed.contentHash());
+    }
+
+    @Test
+    void testKeyDependsOnEntryAndExit() throws Exception {
+        Maze text = new Maze(new Character[][]{
+            {'#', '#', '#', '#', '#'},
+            {' ', ' ', ' ', ' ', ' '},
+            {'#', ' ', ' ', ' ', '#'},
+            {' ', ' ', ' ', '#', '#'},
+            {'#', '#', '#', '#', '#'}
+        });
+        // Same walls, entered from the second West opening, as a binary header may say
+        Maze binary = new Maze(text.getWallGrid(), 3, 0, 1, 4);
+        assertNotEquals(SolutionCache.keyOf(text, "bfs"), SolutionCache.keyOf(binary, "bfs"));
+
+        Path file = directory.resolve("entries.cache");
+        try (SolutionCache cache = new SolutionCache(file, 1 << 20, 16)) {
+            cache.solve(text, "bfs", false);
+            String path = cache.solve(binary, "bfs", false);
+            assertTrue(PathValidator.isValidPath(binary, path));
+        }
+        try (SolutionCache cache = new SolutionCache(file, 1 << 20, 16)) {
+            assertEquals(new MazeRunner(binary, "bfs").solveMaze(), cache.get(SolutionCache.keyOf(binary, "bfs")));
+        }
+    }
+
+    @Test
+    void testFileStaysWithinItsBudget() throws Exception {
+        Path file = directory.resolve("small.cache");
+        try (SolutionCache cache = new SolutionCache(file, 400, 2)) {
+            for (int i = 0; i < 50; i++) {
+                cache.put(key(i, 10, 10), "F L 2F R " + i + "F");
+                assertTrue(Files.size(file) <= 400);
+            }
+            // The most recent entries survive compaction, the oldest do not
+            assertEquals("F L 2F R 49F", cache.get(key(49, 10, 10)));
+            assertNull(cache.get(key(0, 10, 10)));
+        }
+    }
+
+    @Test
+    void testMethodNameIgnoresCase() throws Exception {
+        Maze maze = MazeFileReader.readMaze("examples/small.maz.txt");
+        assertEquals(SolutionCache.keyOf(maze, "bfs"), SolutionCache.keyOf(maze, "BFS"));
+    }
+
+    @Test
+    void testMemoryHitsKeepEntriesHotForCompaction() throws Exception {
+        Path file = directory.resolve("hot.cache");
+        try (SolutionCache cache = new SolutionCache(file, 400, 16)) {
+            cache.put(key(0, 10, 10), "F L 2F R 0F");
+            for (int i = 1; i < 50; i++) {
+                // Only ever answered from the memory tier, yet it must outlive the entries put after it
+                assertEquals("F L 2F R 0F", cache.get(key(0, 10, 10)));
+                cache.put(key(i, 10, 10), "F L 2F R " + i + "F");
+            }
+        }
+        try (SolutionCache cache = new SolutionCache(file, 400, 16)) {
+            assertEquals("F L 2F R 0F", cache.get(key(0, 10, 10)));
+        }
+    }
+
+    @Test
+    void testIncompleteRecordIsDropped() throws Exception {
+        Path file = directory.resolve("torn.cache");
+        SolutionCache.Key first = key(1, 5, 5);
+        try (SolutionCache cache = new SolutionCache(file, 1 << 20, 16)) {
+            cache.put(first, "4F");
+            cache.put(key(2, 5, 5), "F R F");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2);
+        }
+        try (SolutionCache cache = new SolutionCache(file, 1 << 20, 16)) {
+            assertEquals("4F", cache.get(first));
+            assertNull(cache.get(key(2, 5, 5)));
+        }
+    }
+
+    private static SolutionCache.Key key(long hash, int height, int width) {
+        return new SolutionCache.Key(hash, height, width, 1, 0, height - 2, width - 1, "bfs");
+    }
+}
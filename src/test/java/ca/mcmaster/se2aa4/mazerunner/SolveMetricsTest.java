@@ -0,0 +1,69 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class SolveMetricsTest {
+
+    @Test
+    void testCountersMatchTheRightHandPath() throws Exception {
+        SolveMetrics metrics = new SolveMetrics();
+        Maze maze = metrics.timeParse(() -> MazeFileReader.readMaze("examples/tiny.maz.txt"));
+        MazeRunner runner = new MazeRunner(maze, "righthand");
+        runner.recordMetrics(metrics);
+        String path = runner.solveMaze();
+
+        assertEquals("5F 2R 2F R 2F R 2F 2R 2F R 2F R 3F", path);
+        assertEquals(18, metrics.getSteps());
+        assertEquals(2, metrics.getTurnarounds());
+        assertEquals(18, metrics.getPeakPathLength());
+        assertTrue(metrics.getParseNanos() > 0 && metrics.getSolveNanos() > 0 && metrics.getEncodeNanos() > 0);
+        assertTrue(metrics.getAllocatedBytes() > 0, "Tests run on a platform thread, which has an allocation counter");
+        assertTrue(metrics.toJson().startsWith("{\"parseNanos\":"));
+        assertTrue(metrics.toJson().contains("\"steps\":18,"));
+    }
+
+    @Test
+    void testPeakPathLengthComesFromTheLoopEraser() throws Exception {
+        SolveMetrics metrics = new SolveMetrics();
+        MazeRunner runner = new MazeRunner(MazeFileReader.readMaze("examples/tiny.maz.txt"), "righthand");
+        runner.enableLoopErasure();
+        runner.recordMetrics(metrics);
+        runner.solveMaze();
+
+        assertEquals(18, metrics.getSteps());
+        assertEquals(10, metrics.getPeakPathLength(), "The erased path 3F L 4F R 3F has 10 steps");
+    }
+
+    @Test
+    void testBatchAndServerPublishTotals() throws Exception {
+        BatchRunner batch = new BatchRunner("bfs", false, 2);
+        batch.run(List.of(Path.of("examples/tiny.maz.txt"), Path.of("examples/straight.maz.txt")), new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        assertEquals(2, batch.getStats().getRuns());
+        assertEquals(0, batch.getStats().getFailures());
+        assertEquals(14, batch.getStats().getSteps());
+
+        MBeanServer mbeans = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name;
+        try (MazeServer server = new MazeServer(0)) {
+            name = new ObjectName("ca.mcmaster.se2aa4.mazerunner:type=SolveStats,name=server-" + server.getPort());
+            assertTrue(mbeans.isRegistered(name));
+            server.getStats().record(new SolveMetrics());
+            assertEquals(1L, mbeans.getAttribute(name, "Runs"));
+            assertTrue((Long) mbeans.getAttribute(name, "AllocatedBytes") >= 0);
+        }
+        assertFalse(mbeans.isRegistered(name), "Closing the server unregisters its stats");
+    }
+}
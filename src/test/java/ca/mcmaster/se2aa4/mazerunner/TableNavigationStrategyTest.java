@@ -0,0 +1,82 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import org.junit.jupiter.api.Test;
+
+class TableNavigationStrategyTest {
+
+    @Test
+    void testFactoryCreatesTableStrategy() throws Exception {
+        Maze maze = MazeFileReader.readMaze("examples/tiny.maz.txt");
+        RightHandNavigation solver = new RightHandNavigation(maze);
+        assertInstanceOf(TableNavigationStrategy.class, MazeNavigationFactory.createStrategy(solver, "table"));
+        assertInstanceOf(TableNavigationStrategy.class, RightHandNavigation.create(maze).getStrategy());
+    }
+
+    @Test
+    void testSameWalkAsDefaultOnExamples() throws Exception {
+        for (File file : new File("examples").listFiles()) {
+            assertSameWalk(MazeFileReader.readMaze(file.getPath()), file.getName());
+        }
+    }
+
+    @Test
+    void testSameWalkAsDefaultOnGeneratedMazes() throws Exception {
+        for (int seed = 0; seed < 20; seed++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new MazeGenerator(15 + seed, 11 + seed / 2, seed, seed % 2 == 0 ? 0 : 0.3).write(Channels.newChannel(out));
+            assertSameWalk(new Maze(MappedMazeLoader.load(ByteBuffer.wrap(out.toByteArray()))), "generated " + seed);
+        }
+    }
+
+    // Random walls exercise the odd corners of the default rules: stepping into walls, off the grid, or past the border
+    @Test
+    void testSameWalkAsDefaultOnRandomGrids() {
+        Random random = new Random(2024);
+        for (int i = 0; i < 5000; i++) {
+            int height = 1 + random.nextInt(7);
+            int width = 1 + random.nextInt(7);
+            Character[][] grid = new Character[height][width];
+            for (Character[] row : grid) {
+                for (int col = 0; col < width; col++) {
+                    row[col] = random.nextInt(3) == 0 ? '#' : ' ';
+                }
+            }
+            Maze maze;
+            try {
+                maze = new Maze(grid);
+            } catch (IllegalStateException e) {
+                continue; // No entry or no exit
+            }
+            assertSameWalk(maze, "random grid " + i);
+        }
+    }
+
+    private static void assertSameWalk(Maze maze, String name) {
+        assertEquals(walk(maze, "default"), walk(maze, "table"), name);
+    }
+
+    // The moves taken, followed by how the walk ended; walks that go in circles are cut off
+    private static String walk(Maze maze, String strategyType) {
+        StringBuilder moves = new StringBuilder();
+        int limit = 4 * maze.getHeight() * maze.getWidth() + 16;
+        try {
+            RightHandNavigation.create(maze, strategyType).solve(move -> {
+                if (moves.length() >= limit) {
+                    throw new IllegalStateException("cut off");
+                }
+                moves.append(move);
+            });
+            return moves + " solved";
+        } catch (RuntimeException e) {
+            return moves + " " + e.getClass().getSimpleName() + " " + (e instanceof IllegalStateException ? e.getMessage() : "");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ca.mcmaster.se2aa4.mazerunner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class WallGridTest {
+
+    @Test
+    void testWallBitsAcrossWordBoundary() {
+        WallGrid grid = new WallGrid(2, 130);
+        grid.setWall(1, 63);
+        grid.setWall(1, 64);
+        grid.setWall(1, 129);
+        assertTrue(grid.isWall(1, 63));
+        assertTrue(grid.isWall(1, 64));
+        assertTrue(grid.isWall(1, 129));
+        assertFalse(grid.isWall(0, 63));
+        assertEquals(3, grid.getWordsPerRow());
+    }
+
+    @Test
+    void testOrBitsSpillsIntoNextWord() {
+        WallGrid grid = new WallGrid(1, 128);
+        grid.orBits(0, 60, 0xFFL);
+        for (int col = 60; col < 68; col++) {
+            assertTrue(grid.isWall(0, col));
+        }
+        assertFalse(grid.isWall(0, 59));
+        assertFalse(grid.isWall(0, 68));
+    }
+
+    @Test
+    void testNeighbourOpenStopsAtWallsAndBorders() {
+        WallGrid grid = new WallGrid(2, 2);
+        grid.setWall(0, 1);
+        assertFalse(grid.isOpen(0, 0, Direction.NORTH));
+        assertFalse(grid.isOpen(0, 0, Direction.WEST));
+        assertFalse(grid.isOpen(0, 0, Direction.EAST));
+        assertTrue(grid.isOpen(0, 0, Direction.SOUTH));
+        assertTrue(grid.isOpen(1, 1, Direction.WEST));
+        assertFalse(grid.isOpen(1, 1, Direction.EAST));
+    }
+
+    @Test
+    void testMazeReadsCellsFromBitmap() {
+        Maze maze = new Maze(new Character[][]{
+            {'#', '#', '#'},
+            {' ', ' ', ' '},
+            {'#', '#', '#'}
+        });
+        assertEquals('#', maze.returnCellValue(0, 1));
+        assertEquals(' ', maze.returnCellValue(1, 1));
+        assertTrue(maze.isValidMove(new Position(1, 0), Direction.EAST));
+        assertFalse(maze.isValidMove(new Position(1, 1), Direction.NORTH));
+    }
+}